@@ -0,0 +1,13 @@
+#!/usr/bin/env bash
+# 같은 생성 데이터와 읽기 전용 부하로 기본 접근 로그(동기, 요청/응답 전체)와 prod 접근 로그(비동기, 요약 + 표본)를 비교한다.
+# 애플리케이션 출력은 실제 운영처럼 파일로 보낸다. 결과는 build/results/access-log/{default,prod}.txt 에 남는다.
+#
+#   THREADS=64 DURATION=60 scripts/access-log-benchmark.sh
+set -euo pipefail
+
+RESULTS=build/results/access-log
+source "$(dirname "$0")/lib/benchmark.sh"
+
+# generate 프로필은 SQL 로그를 끄므로, 기존 기본 설정과 같아지도록 다시 켠다.
+run default generate --spring.jpa.properties.hibernate.show_sql=true --spring.jpa.properties.hibernate.format_sql=true
+run prod generate,prod
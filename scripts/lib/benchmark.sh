@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# 벤치마크 스크립트가 함께 쓰는 부분. bootJar 를 만들고, run 으로 애플리케이션을 띄워 읽기 전용 부하를 보낸 뒤 내린다.
+# source 하기 전에 RESULTS 를 정해 둔다. THREADS 기본값도 그 전에 정하면 따른다.
+
+APP_JAVA=${APP_JAVA:-java}
+THREADS=${THREADS:-64}
+DURATION=${DURATION:-60}
+PORT=${PORT:-8080}
+POOL_SIZE=${POOL_SIZE:-50}
+
+cd "$(dirname "${BASH_SOURCE[0]}")/../.."
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+mkdir -p "$RESULTS"
+
+# run <이름> <프로필> [애플리케이션 인자...]
+# 결과는 $RESULTS/<이름>.txt, 애플리케이션 출력은 $RESULTS/<이름>-app.log 에 남는다.
+run() {
+  local name=$1 profiles=$2
+  shift 2
+  "$APP_JAVA" -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+      --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" "$@" > "$RESULTS/$name-app.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    kill -0 "$pid" || { echo "애플리케이션이 종료되었습니다. $RESULTS/$name-app.log 를 확인하세요."; exit 1; }
+    sleep 1
+  done
+
+  ./gradlew -q loadTest -Dloadtest.baseUrl="http://localhost:$PORT" -Dloadtest.threads="$THREADS" \
+      -Dloadtest.durationSeconds="$DURATION" -Dloadtest.writeRatio=0 | tee "$RESULTS/$name.txt"
+
+  kill "$pid"
+  wait "$pid" || true
+  trap - EXIT
+}
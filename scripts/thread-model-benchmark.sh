@@ -0,0 +1,13 @@
+#!/usr/bin/env bash
+# 같은 생성 데이터와 읽기 전용 고동시성 부하로 플랫폼 스레드와 가상 스레드 실행을 비교한다.
+# APP_JAVA 는 JDK 21 이상이어야 한다. 결과는 build/results/thread-model/{platform,virtual}.txt 에 남는다.
+#
+#   APP_JAVA=/opt/jdk-21/bin/java THREADS=512 DURATION=60 scripts/thread-model-benchmark.sh
+set -euo pipefail
+
+THREADS=${THREADS:-512}
+RESULTS=build/results/thread-model
+source "$(dirname "$0")/lib/benchmark.sh"
+
+run platform generate
+run virtual generate,virtual-threads
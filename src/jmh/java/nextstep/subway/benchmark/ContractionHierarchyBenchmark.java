@@ -0,0 +1,36 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@State(Scope.Benchmark)
+public class ContractionHierarchyBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int stationCount;
+
+    private PathFinder pathFinder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pathFinder = new PathFinder(SyntheticNetworks.grid(stationCount, 42L)).withContractionHierarchy();
+    }
+
+    @Benchmark
+    public Path findPath() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long source = 1 + random.nextInt(stationCount);
+        long target = 1 + random.nextInt(stationCount);
+        if (source == target) {
+            target = source == stationCount ? 1 : source + 1;
+        }
+        return pathFinder.findPath(source, target);
+    }
+}
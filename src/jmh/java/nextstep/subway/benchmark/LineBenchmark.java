@@ -0,0 +1,60 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * DB 없이 Line 엔티티 하나에서 역 순회, 구간 순회와 가운데 역 추가/삭제 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+public class LineBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    private int sectionCount;
+
+    private Line line;
+    private Station firstStation;
+    private Station middleStation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        line = new Line("노선", "color");
+        firstStation = new Station("역0");
+        middleStation = new Station("중간역");
+        Station upStation = firstStation;
+        for (int i = 1; i <= sectionCount; i++) {
+            Station downStation = new Station("역" + i);
+            line.addSection(upStation, downStation, 10);
+            upStation = downStation;
+        }
+    }
+
+    @Benchmark
+    public List<Station> orderStations() {
+        return line.getStations();
+    }
+
+    @Benchmark
+    public int traverseSections() {
+        int distance = 0;
+        for (Section section : line.getSections()) {
+            distance += section.getDistance();
+        }
+        return distance;
+    }
+
+    @Benchmark
+    public int addAndRemoveMiddleStation() {
+        line.addSection(firstStation, middleStation, 5);
+        line.removeStation(middleStation);
+        return line.getSections().size();
+    }
+}
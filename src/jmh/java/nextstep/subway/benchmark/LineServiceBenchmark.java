@@ -0,0 +1,114 @@
+package nextstep.subway.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.SubwayApplication;
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.NetworkService;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.SectionRequest;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 내장 H2 위에 generate 프로필로 노선도를 채운 애플리케이션을 띄우고, 실제 서비스 빈으로 노선 조회와 구간 변경 비용을 측정한다.
+ * 노선 하나 조회는 메모리 노선도를, 노선 목록 조회와 구간 변경은 DB 와 변경분 반영까지 거친다.
+ * 경로 탐색기는 시작할 때 동기로 한 번만 만들고, 그 뒤로는 다시 만들지 않도록 리스너를 떼어 구간 변경 측정에 섞이지 않게 한다.
+ */
+@State(Scope.Benchmark)
+public class LineServiceBenchmark {
+    private static final int STATIONS_PER_LINE = 50;
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int stationCount;
+
+    private ConfigurableApplicationContext context;
+    private LineService lineService;
+    private Long lineId;
+    private SectionRequest headSection;
+    private Long headStationId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SubwayApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("generate")
+                .properties(
+                        "subway.generator.stations=" + stationCount,
+                        "subway.generator.lines=" + Math.max(1, stationCount / STATIONS_PER_LINE),
+                        "subway.generator.sections-per-line=60",
+                        "subway.generator.seed=42",
+                        "subway.network.consistency-check.enabled=false",
+                        "subway.path.rebuild.async=false",
+                        "subway.path.all-pairs.enabled=false",
+                        "subway.path.contraction-hierarchy.enabled=false")
+                .run();
+        context.getBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME, ApplicationEventMulticaster.class)
+                .removeApplicationListeners(listener -> listener instanceof ApplicationListenerMethodAdapter
+                        && ((ApplicationListenerMethodAdapter) listener).getListenerId().contains("PathService.onNetworkChanged"));
+        lineService = context.getBean(LineService.class);
+
+        Network network = context.getBean(NetworkService.class).getNetwork();
+        NetworkLine line = network.getLines().stream()
+                .filter(it -> !network.getStations(it).isEmpty())
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        lineId = line.getId();
+
+        headStationId = context.getBean(StationRepository.class).save(new Station("벤치마크역")).getId();
+        List<Long> stationIds = lineService.findById(lineId).getStations().stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+        headSection = sectionRequest(headStationId, stationIds.get(0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LineResponse findLine() {
+        return lineService.findById(lineId);
+    }
+
+    @Benchmark
+    public List<LineResponse> showLines() {
+        return lineService.showLines();
+    }
+
+    @Benchmark
+    public void addAndRemoveHeadSection() {
+        lineService.addSection(lineId, headSection);
+        lineService.deleteSection(lineId, headStationId);
+    }
+
+    private static SectionRequest sectionRequest(Long upStationId, Long downStationId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("upStationId", upStationId);
+        params.put("downStationId", downStationId);
+        params.put("distance", 5);
+        params.put("duration", 1);
+        return new ObjectMapper().convertValue(params, SectionRequest.class);
+    }
+}
@@ -0,0 +1,48 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.PathType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@State(Scope.Benchmark)
+public class PathFinderBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    private int stationCount;
+
+    @Param({"DISTANCE", "DURATION", "TRANSFER"})
+    private PathType type;
+
+    private Network network;
+    private PathFinder pathFinder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        network = SyntheticNetworks.grid(stationCount, 42L);
+        pathFinder = new PathFinder(network, 0, 5);
+    }
+
+    @Benchmark
+    public Path findPath() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long source = 1 + random.nextInt(stationCount);
+        long target = 1 + random.nextInt(stationCount);
+        if (source == target) {
+            target = source == stationCount ? 1 : source + 1;
+        }
+        return pathFinder.findPath(source, target, type);
+    }
+
+    @Benchmark
+    public PathFinder buildPathFinder() {
+        return new PathFinder(network, 0, 5);
+    }
+}
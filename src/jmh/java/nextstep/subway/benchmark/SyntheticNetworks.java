@@ -0,0 +1,48 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkStation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 정사각형 격자 모양의 노선도. 가로 줄과 세로 줄이 각각 하나의 노선이 된다.
+ */
+public class SyntheticNetworks {
+    private SyntheticNetworks() {
+    }
+
+    public static Network grid(int stationCount, long seed) {
+        int width = (int) Math.ceil(Math.sqrt(stationCount));
+        Random random = new Random(seed);
+
+        List<NetworkStation> stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            stations.add(new NetworkStation(i + 1, "역" + i, null, null));
+        }
+
+        List<NetworkLine> lines = new ArrayList<>();
+        List<NetworkSection> sections = new ArrayList<>();
+        for (int row = 0; row * width < stationCount; row++) {
+            long lineId = lines.size() + 1;
+            lines.add(new NetworkLine(lineId, "가로" + row, "color", null, null));
+            for (int column = 0; column + 1 < width && row * width + column + 1 < stationCount; column++) {
+                int up = row * width + column;
+                sections.add(new NetworkSection(lineId, up + 1, up + 2, 1 + random.nextInt(10), 1 + random.nextInt(5)));
+            }
+        }
+        for (int column = 0; column < width && column < stationCount; column++) {
+            long lineId = lines.size() + 1;
+            lines.add(new NetworkLine(lineId, "세로" + column, "color", null, null));
+            for (int up = column; up + width < stationCount; up += width) {
+                sections.add(new NetworkSection(lineId, up + 1, up + width + 1, 1 + random.nextInt(10), 1 + random.nextInt(5)));
+            }
+        }
+
+        return new Network(stations, lines, sections);
+    }
+}
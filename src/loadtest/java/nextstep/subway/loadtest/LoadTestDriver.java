@@ -0,0 +1,205 @@
+package nextstep.subway.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 중인 애플리케이션에 읽기/쓰기가 섞인 요청을 보내고 요청 종류별 지연 시간 분포를 출력한다.
+ * <pre>
+ * ./gradlew loadTest -Dloadtest.baseUrl=http://localhost:8080 -Dloadtest.threads=32 \
+ *     -Dloadtest.durationSeconds=60 -Dloadtest.writeRatio=0.01
+ * </pre>
+ */
+public class LoadTestDriver {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final int threads;
+    private final long durationNanos;
+    private final double writeRatio;
+    private final List<Long> stationIds = new ArrayList<>();
+    private final List<Long> lineIds = new ArrayList<>();
+
+    public LoadTestDriver(String baseUrl, int threads, long durationSeconds, double writeRatio) {
+        this.baseUrl = baseUrl;
+        this.threads = threads;
+        this.durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        this.writeRatio = writeRatio;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestDriver driver = new LoadTestDriver(
+                System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+                Integer.getInteger("loadtest.threads", 16),
+                Long.getLong("loadtest.durationSeconds", 30L),
+                Double.parseDouble(System.getProperty("loadtest.writeRatio", "0.01"))
+        );
+        driver.run();
+    }
+
+    public void run() throws Exception {
+        collectIds();
+        System.out.printf("stations=%d, lines=%d, threads=%d, writeRatio=%.3f%n",
+                stationIds.size(), lineIds.size(), threads, writeRatio);
+
+        List<Map<Operation, LatencyRecorder>> recorders = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            Map<Operation, LatencyRecorder> recorder = new EnumMap<>(Operation.class);
+            recorders.add(recorder);
+            executor.execute(() -> {
+                try {
+                    runWorker(recorder, startedAt + durationNanos);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+
+        report(recorders, System.nanoTime() - startedAt);
+    }
+
+    private void collectIds() throws IOException {
+        for (JsonNode station : OBJECT_MAPPER.readTree(request("GET", "/stations", null).body)) {
+            stationIds.add(station.get("id").asLong());
+        }
+        for (JsonNode line : OBJECT_MAPPER.readTree(request("GET", "/lines", null).body)) {
+            lineIds.add(line.get("id").asLong());
+        }
+        if (stationIds.size() < 2 || lineIds.isEmpty()) {
+            throw new IllegalStateException("역이 2개 이상, 노선이 1개 이상 있어야 합니다. generate 프로필로 데이터를 생성하세요.");
+        }
+    }
+
+    private void runWorker(Map<Operation, LatencyRecorder> recorder, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Operation operation = random.nextDouble() < writeRatio ? Operation.UPDATE_LINE : Operation.randomRead(random);
+            long startedAt = System.nanoTime();
+            int status;
+            try {
+                status = execute(operation, random);
+            } catch (IOException e) {
+                status = -1;
+            }
+            recorder.computeIfAbsent(operation, it -> new LatencyRecorder())
+                    .record(System.nanoTime() - startedAt, status >= 200 && status < 400);
+        }
+    }
+
+    private int execute(Operation operation, ThreadLocalRandom random) throws IOException {
+        switch (operation) {
+            case SHOW_LINES:
+                return request("GET", "/lines", null).status;
+            case SHOW_LINE:
+                return request("GET", "/lines/" + randomOf(lineIds, random), null).status;
+            case SHOW_STATIONS:
+                return request("GET", "/stations", null).status;
+            case FIND_PATH:
+                return request("GET", "/paths?source=" + randomOf(stationIds, random) + "&target=" + randomOf(stationIds, random), null).status;
+            case UPDATE_LINE:
+                String body = "{\"color\":\"bg-" + random.nextInt(1000) + "\"}";
+                return request("PUT", "/lines/" + randomOf(lineIds, random), body).status;
+            default:
+                throw new IllegalArgumentException(operation.name());
+        }
+    }
+
+    private Long randomOf(List<Long> ids, ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private HttpResult request(String method, String path, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty("Accept", "application/json");
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        return new HttpResult(status, in == null ? new byte[0] : readFully(in));
+    }
+
+    private byte[] readFully(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read; (read = input.read(buffer)) != -1; ) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private void report(List<Map<Operation, LatencyRecorder>> recorders, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        System.out.printf("%-14s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        LatencyRecorder total = new LatencyRecorder();
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder merged = new LatencyRecorder();
+            recorders.forEach(it -> merged.merge(it.get(operation)));
+            total.merge(merged);
+            print(operation.name(), merged, elapsedSeconds);
+        }
+        print("TOTAL", total, elapsedSeconds);
+    }
+
+    private void print(String name, LatencyRecorder recorder, double elapsedSeconds) {
+        if (recorder.count() == 0) {
+            return;
+        }
+        System.out.printf("%-14s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, recorder.count(), recorder.count() / elapsedSeconds, recorder.errors(),
+                recorder.percentileMillis(50), recorder.percentileMillis(90), recorder.percentileMillis(99),
+                recorder.percentileMillis(99.9), recorder.percentileMillis(100));
+    }
+
+    private enum Operation {
+        SHOW_LINES, SHOW_LINE, SHOW_STATIONS, FIND_PATH, UPDATE_LINE;
+
+        private static final Operation[] READS = {SHOW_LINES, SHOW_LINE, SHOW_LINE, SHOW_STATIONS, FIND_PATH, FIND_PATH, FIND_PATH, FIND_PATH};
+
+        static Operation randomRead(ThreadLocalRandom random) {
+            return READS[random.nextInt(READS.length)];
+        }
+    }
+
+    private static class HttpResult {
+        private final int status;
+        private final byte[] body;
+
+        private HttpResult(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
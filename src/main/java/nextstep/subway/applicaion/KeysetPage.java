@@ -0,0 +1,45 @@
+package nextstep.subway.applicaion;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * id 를 커서로 쓰는 목록 조회의 공통 규칙. 항상 첫 페이지만 읽고, 다음 페이지는 마지막 id 보다 큰 행부터 읽는다.
+ */
+final class KeysetPage {
+    static final int DEFAULT_SIZE = 100;
+    static final int MAX_SIZE = 1000;
+    private static final char LIKE_ESCAPE = '!';
+
+    private KeysetPage() {
+    }
+
+    static Pageable of(Integer size) {
+        int pageSize = size == null ? DEFAULT_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        return PageRequest.of(0, pageSize);
+    }
+
+    static long cursor(Long after) {
+        return after == null ? 0L : after;
+    }
+
+    /**
+     * 이름 접두사를 like 패턴으로 바꾼다. 쿼리는 escape '!' 를 함께 지정해야 한다.
+     */
+    static String likePrefix(String prefix) {
+        if (prefix == null) {
+            return "%";
+        }
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (char c : prefix.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -1,55 +1,125 @@
 package nextstep.subway.applicaion;
 
+import io.micrometer.core.annotation.Timed;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
 import nextstep.subway.applicaion.dto.SectionRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.event.LineChangedEvent;
+import nextstep.subway.applicaion.event.NetworkImportedEvent;
 import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
-import nextstep.subway.domain.Section;
 import nextstep.subway.domain.Station;
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * 쓰기와 DB 를 읽는 조회만 트랜잭션을 연다. 버전과 메모리 노선도 조회는 트랜잭션 없이 처리한다.
+ */
 @Service
-@Transactional
 public class LineService {
     private LineRepository lineRepository;
     private StationService stationService;
+    private NetworkService networkService;
+    private ApplicationEventPublisher eventPublisher;
+    private final VersionCounter version = new VersionCounter();
 
-    public LineService(LineRepository lineRepository, StationService stationService) {
+    public LineService(LineRepository lineRepository, StationService stationService, NetworkService networkService,
+                       ApplicationEventPublisher eventPublisher) {
         this.lineRepository = lineRepository;
         this.stationService = stationService;
+        this.networkService = networkService;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Timed(value = "subway.service", histogram = true)
+    @Transactional
     public LineResponse saveLine(LineRequest request) {
         Line line = lineRepository.save(new Line(request.getName(), request.getColor()));
+        version.increaseAfterCommit();
         if (request.getUpStationId() != null && request.getDownStationId() != null && request.getDistance() != 0) {
             Station upStation = stationService.findById(request.getUpStationId());
             Station downStation = stationService.findById(request.getDownStationId());
-            line.getSections().add(new Section(line, upStation, downStation, request.getDistance()));
+            line.addSection(upStation, downStation, request.getDistance(), request.getDuration());
         }
+        eventPublisher.publishEvent(new LineChangedEvent(line.getId()));
         return createLineResponse(line);
     }
 
+    public long getVersion() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkImported(NetworkImportedEvent event) {
+        version.increase();
+    }
+
+    /**
+     * 역, 노선, 구간을 엔티티 없이 한 번씩만 읽는다. 역은 구간에 등록된 역만 읽는다.
+     */
+    @Timed(value = "subway.service", histogram = true)
     @Transactional(readOnly = true)
     public List<LineResponse> showLines() {
-        return lineRepository.findAll().stream()
-                .map(this::createLineResponse)
+        Network network = new Network(
+                stationService.findNetworkStationsOnLines(),
+                lineRepository.findAllNetworkLines(),
+                lineRepository.findAllNetworkSections()
+        );
+        return network.getLines().stream()
+                .map(line -> createLineResponse(network, line))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * after 보다 큰 id 의 노선을 id 순으로 size 개까지 조회한다. 구간과 역은 조회한 노선에 속한 것만 읽는다.
+     */
+    @Timed(value = "subway.service", histogram = true)
     @Transactional(readOnly = true)
+    public Slice<LineResponse> findLines(Long after, Integer size, String namePrefix) {
+        Pageable pageable = KeysetPage.of(size);
+        long cursor = KeysetPage.cursor(after);
+        Slice<NetworkLine> lines = namePrefix == null
+                ? lineRepository.findNetworkLinesAfter(cursor, pageable)
+                : lineRepository.findNetworkLinesByNameAfter(KeysetPage.likePrefix(namePrefix), cursor, pageable);
+        if (!lines.hasContent()) {
+            return new SliceImpl<>(Collections.emptyList(), pageable, false);
+        }
+
+        List<Long> lineIds = lines.stream().map(NetworkLine::getId).collect(Collectors.toList());
+        Network network = new Network(
+                stationService.findNetworkStationsByLineIds(lineIds),
+                lines.getContent(),
+                lineRepository.findNetworkSectionsByLineIdIn(lineIds)
+        );
+        return lines.map(line -> createLineResponse(network, line));
+    }
+
+    /**
+     * 커밋된 변경만 담긴 메모리 노선도에서 읽으므로 트랜잭션도 DB 커넥션도 쓰지 않는다.
+     */
+    @Timed(value = "subway.service", histogram = true)
     public LineResponse findById(Long id) {
-        return createLineResponse(lineRepository.findById(id).orElseThrow(IllegalArgumentException::new));
+        Network network = networkService.getNetwork();
+        return createLineResponse(network, network.findLine(id).orElseThrow(IllegalArgumentException::new));
     }
 
+    @Timed(value = "subway.service", histogram = true)
+    @Transactional
     public void updateLine(Long id, LineRequest lineRequest) {
         Line line = lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+        version.increaseAfterCommit();
 
         if (lineRequest.getName() != null) {
             line.setName(lineRequest.getName());
@@ -57,18 +127,27 @@ public class LineService {
         if (lineRequest.getColor() != null) {
             line.setColor(lineRequest.getColor());
         }
+        eventPublisher.publishEvent(new LineChangedEvent(id));
     }
 
+    @Timed(value = "subway.service", histogram = true)
+    @Transactional
     public void deleteLine(Long id) {
         lineRepository.deleteById(id);
+        version.increaseAfterCommit();
+        eventPublisher.publishEvent(new LineChangedEvent(id));
     }
 
+    @Timed(value = "subway.service", histogram = true)
+    @Transactional
     public void addSection(Long lineId, SectionRequest sectionRequest) {
         Station upStation = stationService.findById(sectionRequest.getUpStationId());
         Station downStation = stationService.findById(sectionRequest.getDownStationId());
         Line line = lineRepository.findById(lineId).orElseThrow(IllegalArgumentException::new);
 
-        line.getSections().add(new Section(line, upStation, downStation, sectionRequest.getDistance()));
+        line.addSection(upStation, downStation, sectionRequest.getDistance(), sectionRequest.getDuration());
+        version.increaseAfterCommit();
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
     }
 
     private LineResponse createLineResponse(Line line) {
@@ -83,29 +162,33 @@ public class LineService {
     }
 
     private List<StationResponse> createStationResponses(Line line) {
-        if (line.getSections().isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        List<Station> stations = line.getSections().stream()
-                .map(Section::getDownStation)
+        return line.getStations().stream()
+                .map(StationService::createStationResponse)
                 .collect(Collectors.toList());
+    }
 
-        stations.add(0, line.getSections().get(0).getUpStation());
-
-        return stations.stream()
-                .map(it -> stationService.createStationResponse(it))
+    public static LineResponse createLineResponse(Network network, NetworkLine line) {
+        List<StationResponse> stations = network.getStations(line).stream()
+                .map(StationService::createStationResponse)
                 .collect(Collectors.toList());
+        return new LineResponse(
+                line.getId(),
+                line.getName(),
+                line.getColor(),
+                stations,
+                line.getCreatedDate(),
+                line.getModifiedDate()
+        );
     }
 
+    @Timed(value = "subway.service", histogram = true)
+    @Transactional
     public void deleteSection(Long lineId, Long stationId) {
         Line line = lineRepository.findById(lineId).orElseThrow(IllegalArgumentException::new);
         Station station = stationService.findById(stationId);
 
-        if (!line.getSections().get(line.getSections().size() - 1).getDownStation().equals(station)) {
-            throw new IllegalArgumentException();
-        }
-
-        line.getSections().remove(line.getSections().size() - 1);
+        line.removeStation(station);
+        version.increaseAfterCommit();
+        eventPublisher.publishEvent(new LineChangedEvent(lineId));
     }
 }
@@ -0,0 +1,99 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 역, 노선, 구간 순서로 한 줄에 하나씩 JSON 을 쓴다(NDJSON).
+ * 커서로 읽은 엔티티는 주기적으로 영속성 컨텍스트에서 떼어내 노선도 크기와 관계없이 메모리 사용량을 일정하게 유지한다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class NetworkExportService {
+    private static final int CLEAR_SIZE = 1_000;
+
+    private StationRepository stationRepository;
+    private LineRepository lineRepository;
+    private EntityManager entityManager;
+    private ObjectMapper objectMapper;
+
+    public NetworkExportService(StationRepository stationRepository, LineRepository lineRepository,
+                                EntityManager entityManager, ObjectMapper objectMapper) {
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            try (Stream<Station> stations = stationRepository.streamAll()) {
+                write(stations.iterator(), generator, this::writeStation);
+            }
+            try (Stream<Line> lines = lineRepository.streamAll()) {
+                write(lines.iterator(), generator, this::writeLine);
+            }
+            try (Stream<Section> sections = lineRepository.streamAllSections()) {
+                write(sections.iterator(), generator, this::writeSection);
+            }
+        }
+    }
+
+    private <T> void write(Iterator<T> entities, JsonGenerator generator, RecordWriter<T> writer) throws IOException {
+        int count = 0;
+        while (entities.hasNext()) {
+            generator.writeStartObject();
+            writer.write(entities.next(), generator);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            if (++count % CLEAR_SIZE == 0) {
+                entityManager.clear();
+                generator.flush();
+            }
+        }
+        entityManager.clear();
+        generator.flush();
+    }
+
+    private void writeStation(Station station, JsonGenerator generator) throws IOException {
+        generator.writeStringField("type", "station");
+        generator.writeNumberField("id", station.getId());
+        generator.writeStringField("name", station.getName());
+    }
+
+    private void writeLine(Line line, JsonGenerator generator) throws IOException {
+        generator.writeStringField("type", "line");
+        generator.writeNumberField("id", line.getId());
+        generator.writeStringField("name", line.getName());
+        generator.writeStringField("color", line.getColor());
+    }
+
+    private void writeSection(Section section, JsonGenerator generator) throws IOException {
+        generator.writeStringField("type", "section");
+        generator.writeNumberField("lineId", section.getLine().getId());
+        generator.writeNumberField("upStationId", section.getUpStation().getId());
+        generator.writeNumberField("downStationId", section.getDownStation().getId());
+        generator.writeNumberField("distance", section.getDistance());
+        generator.writeNumberField("duration", section.getDuration());
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter<T> {
+        void write(T entity, JsonGenerator generator) throws IOException;
+    }
+}
@@ -0,0 +1,226 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.ImportResponse;
+import nextstep.subway.applicaion.event.NetworkImportedEvent;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code 노선,색상,상행역,하행역,거리[,소요시간]} 형식의 CSV 를 읽어 역/노선/구간을 한 트랜잭션에서 일괄 등록한다.
+ * 같은 노선의 구간은 상행에서 하행 순서로 이어져야 하며, 이미 있는 역은 이름으로 찾아 재사용한다.
+ */
+@Service
+@Transactional
+public class NetworkImportService {
+    private static final String HEADER = "line,color,upStation,downStation,distance";
+    private static final String HEADER_WITH_DURATION = HEADER + ",duration";
+    private static final int FLUSH_SIZE = 1_000;
+    private static final int QUERY_CHUNK_SIZE = 1_000;
+
+    private StationRepository stationRepository;
+    private LineRepository lineRepository;
+    private EntityManager entityManager;
+    private ApplicationEventPublisher eventPublisher;
+
+    public NetworkImportService(StationRepository stationRepository, LineRepository lineRepository,
+                                EntityManager entityManager, ApplicationEventPublisher eventPublisher) {
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ImportResponse importCsv(Reader reader) {
+        Map<String, ImportedLine> lines = readLines(reader);
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("등록할 구간이 없습니다.");
+        }
+        if (lineRepository.existsByNameIn(lines.keySet())) {
+            throw new IllegalArgumentException("이미 등록된 노선입니다.");
+        }
+
+        Set<String> stationNames = new LinkedHashSet<>();
+        lines.values().forEach(line -> stationNames.addAll(line.stations));
+        Map<String, Long> stationIds = findStationIds(stationNames);
+        int createdStationCount = saveStations(stationNames, stationIds);
+        int sectionCount = saveLines(lines.values(), stationIds);
+
+        eventPublisher.publishEvent(new NetworkImportedEvent(createdStationCount, lines.size(), sectionCount));
+        return new ImportResponse(createdStationCount, lines.size(), sectionCount);
+    }
+
+    private Map<String, ImportedLine> readLines(Reader reader) {
+        Map<String, ImportedLine> lines = new LinkedHashMap<>();
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        try {
+            int lineNumber = 0;
+            String row;
+            while ((row = bufferedReader.readLine()) != null) {
+                lineNumber++;
+                row = row.trim();
+                if (row.isEmpty() || row.startsWith("#") || (lineNumber == 1 && isHeader(row))) {
+                    continue;
+                }
+                readRow(lines, row, lineNumber);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return lines;
+    }
+
+    private boolean isHeader(String row) {
+        return row.equalsIgnoreCase(HEADER) || row.equalsIgnoreCase(HEADER_WITH_DURATION);
+    }
+
+    private void readRow(Map<String, ImportedLine> lines, String row, int lineNumber) {
+        String[] columns = row.split(",", -1);
+        if (columns.length != 5 && columns.length != 6) {
+            throw invalidRow(lineNumber, "컬럼 수가 올바르지 않습니다.");
+        }
+        String lineName = requireText(columns[0], lineNumber);
+        String color = requireText(columns[1], lineNumber);
+        String upStation = requireText(columns[2], lineNumber);
+        String downStation = requireText(columns[3], lineNumber);
+        int distance = parsePositive(columns[4], lineNumber, "거리");
+        int duration = columns.length == 6 ? parsePositive(columns[5], lineNumber, "소요 시간") : 0;
+        if (upStation.equals(downStation)) {
+            throw invalidRow(lineNumber, "상행역과 하행역이 같습니다.");
+        }
+
+        ImportedLine line = lines.computeIfAbsent(lineName, name -> new ImportedLine(name, color, upStation));
+        if (!line.color.equals(color)) {
+            throw invalidRow(lineNumber, "같은 노선의 색상이 다릅니다.");
+        }
+        if (!line.lastStation().equals(upStation)) {
+            throw invalidRow(lineNumber, "상행역이 노선의 하행 종점과 이어지지 않습니다.");
+        }
+        if (!line.stationSet.add(downStation)) {
+            throw invalidRow(lineNumber, "하행역이 이미 노선에 포함되어 있습니다.");
+        }
+        line.stations.add(downStation);
+        line.distances.add(distance);
+        line.durations.add(duration);
+    }
+
+    private String requireText(String column, int lineNumber) {
+        String value = column.trim();
+        if (value.isEmpty()) {
+            throw invalidRow(lineNumber, "빈 값이 있습니다.");
+        }
+        return value;
+    }
+
+    private int parsePositive(String column, int lineNumber, String name) {
+        try {
+            int value = Integer.parseInt(column.trim());
+            if (value <= 0) {
+                throw invalidRow(lineNumber, name + "은(는) 0보다 커야 합니다.");
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw invalidRow(lineNumber, name + "이(가) 숫자가 아닙니다.");
+        }
+    }
+
+    private IllegalArgumentException invalidRow(int lineNumber, String reason) {
+        return new IllegalArgumentException(lineNumber + "번째 줄: " + reason);
+    }
+
+    private Map<String, Long> findStationIds(Set<String> names) {
+        Map<String, Long> stationIds = new HashMap<>();
+        List<String> chunk = new ArrayList<>(QUERY_CHUNK_SIZE);
+        for (String name : names) {
+            chunk.add(name);
+            if (chunk.size() == QUERY_CHUNK_SIZE) {
+                stationRepository.findByNameIn(chunk).forEach(station -> stationIds.put(station.getName(), station.getId()));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            stationRepository.findByNameIn(chunk).forEach(station -> stationIds.put(station.getName(), station.getId()));
+        }
+        return stationIds;
+    }
+
+    private int saveStations(Set<String> names, Map<String, Long> stationIds) {
+        int count = 0;
+        for (String name : names) {
+            if (stationIds.containsKey(name)) {
+                continue;
+            }
+            Station station = new Station(name);
+            entityManager.persist(station);
+            stationIds.put(name, station.getId());
+            flushPeriodically(++count);
+        }
+        return count;
+    }
+
+    private int saveLines(Iterable<ImportedLine> lines, Map<String, Long> stationIds) {
+        int count = 0;
+        for (ImportedLine imported : lines) {
+            Line line = new Line(imported.name, imported.color);
+            entityManager.persist(line);
+            Long lineId = line.getId();
+            for (int i = 0; i < imported.distances.size(); i++) {
+                Line lineReference = entityManager.getReference(Line.class, lineId);
+                Station upStation = entityManager.getReference(Station.class, stationIds.get(imported.stations.get(i)));
+                Station downStation = entityManager.getReference(Station.class, stationIds.get(imported.stations.get(i + 1)));
+                entityManager.persist(new Section(lineReference, upStation, downStation,
+                        imported.distances.get(i), imported.durations.get(i)));
+                flushPeriodically(++count);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+
+    private void flushPeriodically(int count) {
+        if (count % FLUSH_SIZE == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private static class ImportedLine {
+        private String name;
+        private String color;
+        private List<String> stations = new ArrayList<>();
+        private Set<String> stationSet = new HashSet<>();
+        private List<Integer> distances = new ArrayList<>();
+        private List<Integer> durations = new ArrayList<>();
+
+        private ImportedLine(String name, String color, String firstStation) {
+            this.name = name;
+            this.color = color;
+            this.stations.add(firstStation);
+            this.stationSet.add(firstStation);
+        }
+
+        private String lastStation() {
+            return stations.get(stations.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.path.PathType;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JPA 를 거치지 않고 메모리에 올려 둔 노선도로 읽기 요청에 답한다.
+ * 구독할 때의 노선도 하나로 끝까지 응답하므로, 스트리밍 도중 노선도가 바뀌어도 섞인 결과가 나가지 않는다.
+ */
+@Service
+public class NetworkReadService {
+    private NetworkService networkService;
+    private LineService lineService;
+    private PathService pathService;
+
+    public NetworkReadService(NetworkService networkService, LineService lineService, PathService pathService) {
+        this.networkService = networkService;
+        this.lineService = lineService;
+        this.pathService = pathService;
+    }
+
+    public Flux<StationResponse> findAllStations() {
+        return Flux.defer(() -> Flux.fromIterable(networkService.getNetwork().getStations()))
+                .map(StationService::createStationResponse);
+    }
+
+    public Flux<LineResponse> findAllLines() {
+        return Flux.defer(() -> {
+            Network network = networkService.getNetwork();
+            return Flux.fromIterable(network.getLines())
+                    .map(line -> LineService.createLineResponse(network, line));
+        });
+    }
+
+    public Mono<LineResponse> findLine(Long id) {
+        return Mono.fromCallable(() -> lineService.findById(id));
+    }
+
+    /**
+     * 경로 탐색은 CPU 를 쓰므로 요청 스레드가 아닌 parallel 스케줄러에서 수행한다.
+     */
+    public Mono<PathResponse> findPath(Long source, Long target, PathType type) {
+        return Mono.fromCallable(() -> pathService.findPath(source, target, type))
+                .subscribeOn(Schedulers.parallel());
+    }
+}
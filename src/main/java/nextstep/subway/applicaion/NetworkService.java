@@ -0,0 +1,226 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Metrics;
+import nextstep.subway.applicaion.event.LineChangedEvent;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.applicaion.event.NetworkImportedEvent;
+import nextstep.subway.applicaion.event.StationChangedEvent;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkSnapshot;
+import nextstep.subway.domain.network.NetworkStation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class NetworkService {
+    private static final Logger log = LoggerFactory.getLogger(NetworkService.class);
+
+    private LineRepository lineRepository;
+    private StationRepository stationRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private Path snapshotFile;
+    private boolean consistencyCheckEnabled;
+    private final AtomicReference<Network> network = new AtomicReference<>(Network.empty());
+    private Network snapshotted;
+    private final AtomicInteger committingChanges = new AtomicInteger();
+    private final AtomicLong completedChanges = new AtomicLong();
+
+    public NetworkService(LineRepository lineRepository, StationRepository stationRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${subway.network.snapshot-path:}") String snapshotPath,
+                          @Value("${subway.network.consistency-check.enabled:true}") boolean consistencyCheckEnabled) {
+        this.lineRepository = lineRepository;
+        this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
+        this.snapshotFile = snapshotPath.isEmpty() ? null : Paths.get(snapshotPath);
+        this.consistencyCheckEnabled = consistencyCheckEnabled;
+    }
+
+    /**
+     * 커밋이 끝난 뒤 통째로 교체되는 불변 노선도. 읽는 쪽은 잠금 없이 항상 완전한 한 버전만 본다.
+     */
+    public Network getNetwork() {
+        return network.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void initialize() {
+        long fingerprint = fingerprint();
+        Optional<Network> snapshot = readSnapshot(fingerprint);
+        if (snapshot.isPresent()) {
+            publish(snapshot.get());
+            snapshotted = snapshot.get();
+            return;
+        }
+        reload(fingerprint);
+    }
+
+    /**
+     * 바뀐 노선 하나만 다시 읽어 현재 노선도에 반영한다. DB 집계와의 대조와 스냅샷 저장은 {@link #maintain()} 에 맡긴다.
+     */
+    @Timed(value = "subway.network.update", histogram = true)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onLineChanged(LineChangedEvent event) {
+        NetworkLine line = lineRepository.findNetworkLineById(event.getLineId()).orElse(null);
+        List<NetworkSection> sections = line == null
+                ? Collections.emptyList() : lineRepository.findNetworkSectionsByLineId(event.getLineId());
+        publish(network.get().replaceLine(event.getLineId(), line, sections));
+    }
+
+    /**
+     * 바뀐 역 하나만 다시 읽어 현재 노선도에 반영한다.
+     */
+    @Timed(value = "subway.network.update", histogram = true)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onStationChanged(StationChangedEvent event) {
+        NetworkStation station = stationRepository.findNetworkStationById(event.getStationId()).orElse(null);
+        publish(network.get().replaceStation(event.getStationId(), station));
+    }
+
+    @Timed(value = "subway.network.update", histogram = true)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void onNetworkImported(NetworkImportedEvent event) {
+        reload(fingerprint());
+    }
+
+    /**
+     * 역/노선/구간을 바꾼 트랜잭션이 커밋되기 직전부터 변경분 반영이 끝날 때까지를 센다.
+     * 커밋 뒤 리스너가 모두 끝난 다음에 afterCompletion 이 불리므로, 완료로 세어진 변경은 노선도에도 반영된 것이다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT,
+            classes = {LineChangedEvent.class, StationChangedEvent.class, NetworkImportedEvent.class})
+    public void onChangeCommitting() {
+        committingChanges.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                completedChanges.incrementAndGet();
+                committingChanges.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 주기적으로 현재 노선도를 DB 의 역/노선/구간 집계와 대조해, 다르면 전체를 다시 읽는다.
+     * 스냅샷은 DB 와 같다고 확인된 노선도가 마지막으로 저장한 것과 다를 때만 저장한다.
+     * 집계와 지문은 한 스냅숏에서 읽고, 커밋됐지만 아직 반영되지 않은 변경이 앞뒤로 하나라도 있으면 이번 대조는 건너뛴다.
+     */
+    @Scheduled(fixedDelayString = "${subway.network.consistency-check.interval-ms:30000}",
+            initialDelayString = "${subway.network.consistency-check.interval-ms:30000}")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public synchronized void maintain() {
+        if (!consistencyCheckEnabled && snapshotFile == null) {
+            return;
+        }
+        long completed = completedChanges.get();
+        if (committingChanges.get() > 0) {
+            log.debug("반영 중인 노선도 변경이 있어 대조를 건너뜁니다.");
+            return;
+        }
+
+        Network current = network.get();
+        long fingerprint = fingerprint();
+        boolean consistent = isConsistent(current);
+        if (committingChanges.get() > 0 || completedChanges.get() != completed) {
+            log.debug("대조 중에 노선도 변경이 커밋되어 결과를 버립니다.");
+            return;
+        }
+
+        if (consistent) {
+            if (current != snapshotted) {
+                writeSnapshot(current, fingerprint);
+            }
+            return;
+        }
+        if (consistencyCheckEnabled) {
+            log.warn("노선도 변경분 반영 결과가 DB 와 달라 전체를 다시 읽습니다.");
+            Metrics.counter("subway.network.inconsistencies").increment();
+            reload(fingerprint);
+        }
+    }
+
+    private boolean isConsistent(Network network) {
+        return network.summarizeStations().hash() == stationRepository.summarizeContents().hash()
+                && network.summarizeLines().hash() == lineRepository.summarizeContents().hash()
+                && network.summarizeSections().hash() == lineRepository.summarizeSectionContents().hash();
+    }
+
+    private void reload(long fingerprint) {
+        Network loaded = new Network(
+                stationRepository.findAllNetworkStations(),
+                lineRepository.findAllNetworkLines(),
+                lineRepository.findAllNetworkSections()
+        );
+        publish(loaded);
+        writeSnapshot(loaded, fingerprint);
+    }
+
+    private void publish(Network network) {
+        this.network.set(network);
+        eventPublisher.publishEvent(new NetworkChangedEvent(network));
+    }
+
+    private long fingerprint() {
+        return NetworkSnapshot.fingerprint(
+                stationRepository.summarize(),
+                lineRepository.summarize(),
+                lineRepository.summarizeSections()
+        );
+    }
+
+    private Optional<Network> readSnapshot(long fingerprint) {
+        if (snapshotFile == null) {
+            return Optional.empty();
+        }
+        try {
+            return NetworkSnapshot.read(snapshotFile, fingerprint);
+        } catch (IOException e) {
+            log.warn("노선도 스냅샷을 읽지 못했습니다. file={}", snapshotFile, e);
+            return Optional.empty();
+        }
+    }
+
+    private void writeSnapshot(Network network, long fingerprint) {
+        if (snapshotFile == null) {
+            return;
+        }
+        try {
+            NetworkSnapshot.write(snapshotFile, network, fingerprint);
+            snapshotted = network;
+        } catch (IOException e) {
+            log.warn("노선도 스냅샷을 저장하지 못했습니다. file={}", snapshotFile, e);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.annotation.Timed;
+import nextstep.subway.applicaion.dto.PathMatrixRequest;
+import nextstep.subway.applicaion.dto.PathMatrixResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.event.NetworkChangedEvent;
+import nextstep.subway.config.CacheConfig;
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkStation;
+import nextstep.subway.domain.path.Dijkstra;
+import nextstep.subway.domain.path.DistanceMatrix;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.PathType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Service
+public class PathService {
+    private static final Logger log = LoggerFactory.getLogger(PathService.class);
+
+    private TaskExecutor taskExecutor;
+    private Cache pathCache;
+    private int allPairsLimit;
+    private long allPairsMaxBytes;
+    private int transferPenalty;
+    private boolean contractionHierarchyEnabled;
+    private int matrixMaxCells;
+    private ForkJoinPool matrixPool;
+    private boolean asyncRebuild;
+    private final AtomicReference<Network> pending = new AtomicReference<>();
+    private DistanceMatrix retainedMatrix;
+    private final AtomicReference<Routing> routing = new AtomicReference<>(new Routing(0L, new PathFinder(Network.empty())));
+
+    public PathService(TaskExecutor taskExecutor, CacheManager cacheManager,
+                       @Value("${subway.path.all-pairs.enabled:false}") boolean allPairsEnabled,
+                       @Value("${subway.path.all-pairs.max-stations:5000}") int allPairsMaxStations,
+                       @Value("${subway.path.all-pairs.max-direct-memory-mb:512}") long allPairsMaxDirectMemoryMb,
+                       @Value("${subway.path.transfer-penalty:0}") int transferPenalty,
+                       @Value("${subway.path.contraction-hierarchy.enabled:false}") boolean contractionHierarchyEnabled,
+                       @Value("${subway.path.matrix.max-cells:250000}") int matrixMaxCells,
+                       @Value("${subway.path.matrix.parallelism:0}") int matrixParallelism,
+                       @Value("${subway.path.rebuild.async:true}") boolean asyncRebuild) {
+        this.taskExecutor = taskExecutor;
+        this.pathCache = cacheManager.getCache(CacheConfig.PATH);
+        this.allPairsLimit = allPairsEnabled ? allPairsMaxStations : 0;
+        this.allPairsMaxBytes = allPairsMaxDirectMemoryMb * 1024 * 1024;
+        this.transferPenalty = transferPenalty;
+        this.contractionHierarchyEnabled = contractionHierarchyEnabled;
+        this.matrixMaxCells = matrixMaxCells;
+        this.matrixPool = new ForkJoinPool(matrixParallelism > 0 ? matrixParallelism : Runtime.getRuntime().availableProcessors());
+        this.asyncRebuild = asyncRebuild;
+    }
+
+    /**
+     * 캐시 키에 노선도 버전을 담아, 노선도가 바뀌면 이전 버전의 경로는 다시 조회되지 않고 밀려난다.
+     */
+    @Timed(value = "subway.service", histogram = true)
+    public PathResponse findPath(Long source, Long target, PathType type) {
+        Routing current = routing.get();
+        PathKey key = new PathKey(current.version, source, target, type);
+        PathResponse cached = pathCache.get(key, PathResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+        PathResponse response = createPathResponse(current.pathFinder.findPath(source, target, type));
+        pathCache.put(key, response);
+        return response;
+    }
+
+    @Timed(value = "subway.service", histogram = true)
+    public PathMatrixResponse findDistances(PathMatrixRequest request) {
+        List<Long> sources = request.getSources();
+        List<Long> targets = request.getTargets();
+        if (sources == null || targets == null || sources.isEmpty() || targets.isEmpty()) {
+            throw new IllegalArgumentException("출발역과 도착역 목록이 필요합니다.");
+        }
+        if ((long) sources.size() * targets.size() > matrixMaxCells) {
+            throw new IllegalArgumentException("거리 행렬이 너무 큽니다. max-cells=" + matrixMaxCells);
+        }
+
+        int[][] distances = routing.get().pathFinder.findDistances(sources, targets, matrixPool);
+        List<List<Integer>> rows = new ArrayList<>(distances.length);
+        for (int[] row : distances) {
+            List<Integer> cells = new ArrayList<>(row.length);
+            for (int distance : row) {
+                cells.add(distance == Dijkstra.UNREACHABLE ? null : distance);
+            }
+            rows.add(cells);
+        }
+        return new PathMatrixResponse(sources, targets, rows);
+    }
+
+    public long getGraphVersion() {
+        return routing.get().version;
+    }
+
+    public boolean hasContractionHierarchy() {
+        return routing.get().pathFinder.hasContractionHierarchy();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        matrixPool.shutdown();
+    }
+
+    private PathResponse createPathResponse(Path path) {
+        List<StationResponse> stations = path.getStations().stream()
+                .map(this::createStationResponse)
+                .collect(Collectors.toList());
+        return new PathResponse(stations, path.getDistance(), path.getDuration(), path.getTransferCount());
+    }
+
+    /**
+     * 탐색기는 쓰기 요청 스레드가 아니라 백그라운드에서 다시 만들고, 만드는 동안은 이전 탐색기로 서비스한다.
+     * 만드는 중에 들어온 노선도는 가장 마지막 것 하나만 남겨 두었다가 이어서 반영한다.
+     */
+    @EventListener
+    public void onNetworkChanged(NetworkChangedEvent event) {
+        if (pending.getAndSet(event.getNetwork()) != null) {
+            return;
+        }
+        if (asyncRebuild) {
+            taskExecutor.execute(this::rebuild);
+            return;
+        }
+        rebuild();
+    }
+
+    private void rebuild() {
+        Network network;
+        do {
+            network = pending.get();
+            try {
+                swap(network);
+            } catch (RuntimeException e) {
+                log.warn("경로 탐색기를 다시 만들지 못했습니다.", e);
+            }
+        } while (!pending.compareAndSet(network, null));
+    }
+
+    /**
+     * 바뀐 노선도는 다익스트라로 먼저 서비스하고, 거리 행렬이나 contraction hierarchy 는 따로 만들어 끝나면 교체한다.
+     * 그 사이 노선도가 또 바뀌었다면 만든 결과를 버린다.
+     */
+    private void swap(Network network) {
+        PathFinder rebuilt = new PathFinder(network, 0, transferPenalty);
+        Routing next = routing.updateAndGet(current -> new Routing(current.version + 1, rebuilt));
+        if (rebuilt.canBuildDistanceMatrix(allPairsLimit)) {
+            if (rebuilt.distanceMatrixBytes(retainedMatrix) <= allPairsMaxBytes) {
+                buildDistanceMatrix(network, next);
+                return;
+            }
+            log.warn("거리 행렬이 direct memory 한도를 넘어 만들지 않습니다. stations={}, max={}MB",
+                    network.stationCount(), allPairsMaxBytes / 1024 / 1024);
+        }
+        if (contractionHierarchyEnabled) {
+            taskExecutor.execute(() -> buildContractionHierarchy(next));
+        }
+    }
+
+    /**
+     * 거리 행렬은 n² 크기의 direct buffer 두 개를 쓰므로 재구축 루프 안에서 한 번에 하나만 만든다.
+     * 이전 행렬의 버퍼가 충분히 크면 그대로 덮어쓰고, 더 새로운 노선도가 기다리고 있으면 만들지 않는다.
+     */
+    private void buildDistanceMatrix(Network network, Routing base) {
+        if (pending.get() != network) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        PathFinder withMatrix = base.pathFinder.withDistanceMatrix(retainedMatrix, matrixPool);
+        retainedMatrix = withMatrix.getDistanceMatrix();
+        if (routing.compareAndSet(base, new Routing(base.version, withMatrix))) {
+            log.info("거리 행렬 교체 완료. elapsed={}ms", System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private void buildContractionHierarchy(Routing base) {
+        if (routing.get() != base) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            Routing swapped = new Routing(base.version, base.pathFinder.withContractionHierarchy());
+            if (routing.compareAndSet(base, swapped)) {
+                log.info("contraction hierarchy 교체 완료. elapsed={}ms", System.currentTimeMillis() - startedAt);
+            }
+        } catch (RuntimeException e) {
+            log.warn("contraction hierarchy 를 만들지 못했습니다.", e);
+        }
+    }
+
+    private StationResponse createStationResponse(NetworkStation station) {
+        return new StationResponse(
+                station.getId(),
+                station.getName(),
+                station.getCreatedDate(),
+                station.getModifiedDate()
+        );
+    }
+
+    /**
+     * 경로 탐색기와 그 탐색기가 만들어진 노선도 버전을 한 번에 교체하기 위한 묶음
+     */
+    private static final class Routing {
+        private final long version;
+        private final PathFinder pathFinder;
+
+        private Routing(long version, PathFinder pathFinder) {
+            this.version = version;
+            this.pathFinder = pathFinder;
+        }
+    }
+
+    private static final class PathKey {
+        private final long version;
+        private final Long source;
+        private final Long target;
+        private final PathType type;
+
+        private PathKey(long version, Long source, Long target, PathType type) {
+            this.version = version;
+            this.source = source;
+            this.target = target;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PathKey pathKey = (PathKey) o;
+            return version == pathKey.version
+                    && Objects.equals(source, pathKey.source)
+                    && Objects.equals(target, pathKey.target)
+                    && type == pathKey.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, source, target, type);
+        }
+    }
+}
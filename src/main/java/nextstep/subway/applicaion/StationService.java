@@ -1,43 +1,117 @@
 package nextstep.subway.applicaion;
 
+import io.micrometer.core.annotation.Timed;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.applicaion.event.NetworkImportedEvent;
+import nextstep.subway.applicaion.event.StationChangedEvent;
 import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.network.NetworkStation;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * 쓰기와 DB 를 읽는 조회만 트랜잭션을 연다. 버전 조회와 응답 변환은 트랜잭션 없이 처리한다.
+ */
 @Service
-@Transactional
 public class StationService {
     private StationRepository stationRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private final VersionCounter version = new VersionCounter();
 
-    public StationService(StationRepository stationRepository) {
+    public StationService(StationRepository stationRepository, ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Timed(value = "subway.service", histogram = true)
+    @Transactional
     public StationResponse saveStation(StationRequest stationRequest) {
         Station station = stationRepository.save(new Station(stationRequest.getName()));
+        version.increaseAfterCommit();
+        eventPublisher.publishEvent(new StationChangedEvent(station.getId()));
         return createStationResponse(station);
     }
 
+    public long getVersion() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkImported(NetworkImportedEvent event) {
+        version.increase();
+    }
+
+    @Timed(value = "subway.service", histogram = true)
     @Transactional(readOnly = true)
     public List<StationResponse> findAllStations() {
-        List<Station> stations = stationRepository.findAll();
-
-        return stations.stream()
-                .map(this::createStationResponse)
+        return findAllNetworkStations().stream()
+                .map(StationService::createStationResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<NetworkStation> findAllNetworkStations() {
+        return stationRepository.findAllNetworkStations();
+    }
+
+    /**
+     * after 보다 큰 id 의 역을 id 순으로 size 개까지 조회한다. lineId 가 있으면 그 노선에 등록된 역만 조회한다.
+     */
+    @Timed(value = "subway.service", histogram = true)
+    @Transactional(readOnly = true)
+    public Slice<StationResponse> findStations(Long after, Integer size, String namePrefix, Long lineId) {
+        Pageable pageable = KeysetPage.of(size);
+        long cursor = KeysetPage.cursor(after);
+        Slice<NetworkStation> stations;
+        if (lineId != null) {
+            stations = stationRepository.findNetworkStationsByLineAndNameAfter(
+                    lineId, KeysetPage.likePrefix(namePrefix), cursor, pageable);
+        } else if (namePrefix != null) {
+            stations = stationRepository.findNetworkStationsByNameAfter(KeysetPage.likePrefix(namePrefix), cursor, pageable);
+        } else {
+            stations = stationRepository.findNetworkStationsAfter(cursor, pageable);
+        }
+        return stations.map(StationService::createStationResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public List<NetworkStation> findNetworkStationsOnLines() {
+        return stationRepository.findNetworkStationsOnLines();
+    }
+
+    @Transactional(readOnly = true)
+    public List<NetworkStation> findNetworkStationsByLineIds(Collection<Long> lineIds) {
+        return stationRepository.findNetworkStationsByLineIdIn(lineIds);
+    }
+
+    @Timed(value = "subway.service", histogram = true)
+    @Transactional
     public void deleteStationById(Long id) {
         stationRepository.deleteById(id);
+        version.increaseAfterCommit();
+        eventPublisher.publishEvent(new StationChangedEvent(id));
+    }
+
+    public static StationResponse createStationResponse(Station station) {
+        return new StationResponse(
+                station.getId(),
+                station.getName(),
+                station.getCreatedDate(),
+                station.getModifiedDate()
+        );
     }
 
-    public StationResponse createStationResponse(Station station) {
+    public static StationResponse createStationResponse(NetworkStation station) {
         return new StationResponse(
                 station.getId(),
                 station.getName(),
@@ -46,6 +120,7 @@ public class StationService {
         );
     }
 
+    @Transactional
     public Station findById(Long id) {
         return stationRepository.findById(id).orElseThrow(IllegalArgumentException::new);
     }
@@ -0,0 +1,34 @@
+package nextstep.subway.applicaion;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기가 커밋된 뒤에 증가하는 버전. 새 버전을 본 읽기는 항상 커밋된 데이터를 읽는다.
+ */
+public class VersionCounter {
+    private final AtomicLong version = new AtomicLong();
+
+    public long get() {
+        return version.get();
+    }
+
+    public void increase() {
+        version.incrementAndGet();
+    }
+
+    public void increaseAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increase();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increase();
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class PathMatrixRequest {
+    private List<Long> sources;
+    private List<Long> targets;
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+}
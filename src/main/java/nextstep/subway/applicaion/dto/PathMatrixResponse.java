@@ -0,0 +1,30 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class PathMatrixResponse {
+    private List<Long> sources;
+    private List<Long> targets;
+    private List<List<Integer>> distances;
+
+    public PathMatrixResponse(List<Long> sources, List<Long> targets, List<List<Integer>> distances) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    /**
+     * distances[i][j] 는 sources[i] 에서 targets[j] 까지의 최단 거리이고, 도달할 수 없으면 null 이다.
+     */
+    public List<List<Integer>> getDistances() {
+        return distances;
+    }
+}
@@ -0,0 +1,33 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class PathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+    private int duration;
+    private int transferCount;
+
+    public PathResponse(List<StationResponse> stations, int distance, int duration, int transferCount) {
+        this.stations = stations;
+        this.distance = distance;
+        this.duration = duration;
+        this.transferCount = transferCount;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+}
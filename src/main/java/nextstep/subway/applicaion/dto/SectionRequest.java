@@ -4,6 +4,7 @@ public class SectionRequest {
     private Long upStationId;
     private Long downStationId;
     private int distance;
+    private int duration;
 
     public Long getUpStationId() {
         return upStationId;
@@ -16,4 +17,8 @@ public class SectionRequest {
     public int getDistance() {
         return distance;
     }
+
+    public int getDuration() {
+        return duration;
+    }
 }
@@ -0,0 +1,13 @@
+package nextstep.subway.applicaion.event;
+
+public class LineChangedEvent {
+    private Long lineId;
+
+    public LineChangedEvent(Long lineId) {
+        this.lineId = lineId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+}
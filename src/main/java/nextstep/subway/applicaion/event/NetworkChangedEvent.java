@@ -0,0 +1,15 @@
+package nextstep.subway.applicaion.event;
+
+import nextstep.subway.domain.network.Network;
+
+public class NetworkChangedEvent {
+    private Network network;
+
+    public NetworkChangedEvent(Network network) {
+        this.network = network;
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+}
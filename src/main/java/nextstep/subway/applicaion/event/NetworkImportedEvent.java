@@ -0,0 +1,25 @@
+package nextstep.subway.applicaion.event;
+
+public class NetworkImportedEvent {
+    private int stationCount;
+    private int lineCount;
+    private int sectionCount;
+
+    public NetworkImportedEvent(int stationCount, int lineCount, int sectionCount) {
+        this.stationCount = stationCount;
+        this.lineCount = lineCount;
+        this.sectionCount = sectionCount;
+    }
+
+    public int getStationCount() {
+        return stationCount;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    public int getSectionCount() {
+        return sectionCount;
+    }
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.applicaion.event;
+
+public class StationChangedEvent {
+    private Long stationId;
+
+    public StationChangedEvent(Long stationId) {
+        this.stationId = stationId;
+    }
+
+    public Long getStationId() {
+        return stationId;
+    }
+}
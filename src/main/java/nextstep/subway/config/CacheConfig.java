@@ -0,0 +1,28 @@
+package nextstep.subway.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+    public static final String PATH = "path";
+
+    /**
+     * 경로 캐시는 노선도 버전을 키에 담으므로 따로 비우지 않고 크기 제한으로만 밀어낸다.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${subway.cache.path.spec}") String pathCacheSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(Collections.emptyList());
+        cacheManager.registerCustomCache(PATH, Caffeine.from(pathCacheSpec).build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,49 @@
+package nextstep.subway.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import nextstep.subway.applicaion.NetworkService;
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.support.QueryCountingInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        QueryCountingInterceptor interceptor = new QueryCountingInterceptor();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, interceptor);
+            properties.put(AvailableSettings.INTERCEPTOR, interceptor);
+        };
+    }
+
+    /**
+     * 메모리 노선도와 경로 탐색기의 크기, contraction hierarchy 준비 여부를 게이지로 노출한다.
+     */
+    @Bean
+    public MeterBinder networkMetrics(NetworkService networkService, PathService pathService) {
+        return registry -> {
+            Gauge.builder("subway.network.stations", networkService, it -> it.getNetwork().stationCount())
+                    .register(registry);
+            Gauge.builder("subway.network.lines", networkService, it -> it.getNetwork().lineCount())
+                    .register(registry);
+            Gauge.builder("subway.network.sections", networkService, it -> it.getNetwork().sectionCount())
+                    .register(registry);
+            Gauge.builder("subway.path.graph.version", pathService, PathService::getGraphVersion)
+                    .register(registry);
+            Gauge.builder("subway.path.contraction-hierarchy.ready", pathService, it -> it.hasContractionHierarchy() ? 1 : 0)
+                    .register(registry);
+        };
+    }
+}
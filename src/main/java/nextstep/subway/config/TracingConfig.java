@@ -0,0 +1,44 @@
+package nextstep.subway.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nextstep.subway.support.OtlpSpanExporter;
+import nextstep.subway.support.TracingAspect;
+import nextstep.subway.support.TracingJackson2HttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.time.Duration;
+
+@Configuration
+public class TracingConfig {
+    @Bean
+    public TracingAspect tracingAspect() {
+        return new TracingAspect();
+    }
+
+    /**
+     * 기본 JSON 변환기를 대신해 응답 직렬화 시간을 구간으로 남긴다.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TracingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public OtlpSpanExporter otlpSpanExporter(@Value("${subway.tracing.otlp.endpoint}") String endpoint,
+                                             @Value("${subway.tracing.service-name}") String serviceName,
+                                             @Value("${subway.tracing.queue-size}") int queueSize,
+                                             @Value("${subway.tracing.batch-size}") int batchSize,
+                                             @Value("${subway.tracing.flush-interval-ms}") long flushIntervalMillis,
+                                             RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper) {
+        return new OtlpSpanExporter(endpoint, serviceName, queueSize, batchSize, flushIntervalMillis,
+                restTemplateBuilder
+                        .setConnectTimeout(Duration.ofSeconds(1))
+                        .setReadTimeout(Duration.ofSeconds(2))
+                        .build(),
+                objectMapper);
+    }
+}
@@ -0,0 +1,36 @@
+package nextstep.subway.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * virtual-threads 프로필에서 톰캣 요청을 요청마다 새 가상 스레드에서 처리한다. JDK 21 이상에서만 동작한다.
+ * 소스는 Java 8 로 컴파일하므로 가상 스레드 executor 는 리플렉션으로 만든다.
+ */
+@Profile("virtual-threads")
+@Configuration
+public class VirtualThreadConfig {
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    private ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("가상 스레드를 지원하지 않는 JDK 입니다. JDK 21 이상에서 실행하세요. java.version="
+                    + System.getProperty("java.version"), e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("가상 스레드 executor 를 만들지 못했습니다.", e.getCause());
+        }
+    }
+}
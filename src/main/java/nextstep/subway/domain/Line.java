@@ -2,12 +2,14 @@ package nextstep.subway.domain;
 
 import javax.persistence.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Entity
 public class Line extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_seq_generator")
+    @SequenceGenerator(name = "line_seq_generator", sequenceName = "line_seq", allocationSize = 100)
     private Long id;
     @Column(unique = true)
     private String name;
@@ -16,6 +18,9 @@ public class Line extends BaseEntity {
     @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
     private List<Section> sections = new ArrayList<>();
 
+    @Transient
+    private SectionIndex sectionIndex;
+
     public Line() {
     }
 
@@ -49,6 +54,105 @@ public class Line extends BaseEntity {
     }
 
     public List<Section> getSections() {
-        return sections;
+        return Collections.unmodifiableList(sections);
+    }
+
+    public List<Station> getStations() {
+        return index().stations();
+    }
+
+    public void addSection(Station upStation, Station downStation, int distance) {
+        addSection(upStation, downStation, distance, 0);
+    }
+
+    public void addSection(Station upStation, Station downStation, int distance, int duration) {
+        SectionIndex index = index();
+        if (sections.isEmpty()) {
+            addSection(new Section(this, upStation, downStation, distance, duration));
+            return;
+        }
+
+        boolean hasUpStation = index.contains(upStation);
+        boolean hasDownStation = index.contains(downStation);
+        if (hasUpStation == hasDownStation) {
+            throw new IllegalArgumentException("상행역과 하행역 중 하나만 노선에 포함되어 있어야 합니다.");
+        }
+
+        if (hasUpStation) {
+            Section next = index.startingAt(upStation);
+            if (next != null) {
+                index.remove(next);
+                next.changeUpStation(downStation, remainingDistance(next, distance), remainingDuration(next, duration));
+                index.put(next);
+            }
+        } else {
+            Section previous = index.endingAt(downStation);
+            if (previous != null) {
+                index.remove(previous);
+                previous.changeDownStation(upStation, remainingDistance(previous, distance), remainingDuration(previous, duration));
+                index.put(previous);
+            }
+        }
+        addSection(new Section(this, upStation, downStation, distance, duration));
+    }
+
+    public void removeStation(Station station) {
+        SectionIndex index = index();
+        if (sections.size() <= 1) {
+            throw new IllegalArgumentException("구간이 하나뿐인 노선에서는 역을 제거할 수 없습니다.");
+        }
+
+        Section previous = index.endingAt(station);
+        Section next = index.startingAt(station);
+        if (previous == null && next == null) {
+            throw new IllegalArgumentException("노선에 포함되지 않은 역입니다.");
+        }
+
+        if (previous != null && next != null) {
+            index.remove(previous);
+            previous.changeDownStation(next.getDownStation(),
+                    previous.getDistance() + next.getDistance(), previous.getDuration() + next.getDuration());
+            index.put(previous);
+            removeSection(next);
+            return;
+        }
+        removeSection(previous != null ? previous : next);
+    }
+
+    private int remainingDistance(Section section, int distance) {
+        if (distance >= section.getDistance()) {
+            throw new IllegalArgumentException("역 사이에 추가하는 구간의 거리는 기존 구간보다 짧아야 합니다.");
+        }
+        return section.getDistance() - distance;
+    }
+
+    /**
+     * 소요 시간이 0 인 구간은 소요 시간 없이 등록된 구간이므로, 나눌 때 검사하지 않고 남은 쪽도 0 으로 둔다.
+     */
+    private int remainingDuration(Section section, int duration) {
+        if (section.getDuration() == 0) {
+            return 0;
+        }
+        if (duration >= section.getDuration()) {
+            throw new IllegalArgumentException("역 사이에 추가하는 구간의 소요 시간은 기존 구간보다 짧아야 합니다.");
+        }
+        return section.getDuration() - duration;
+    }
+
+    private void addSection(Section section) {
+        sections.add(section);
+        index().put(section);
+    }
+
+    private void removeSection(Section section) {
+        sections.remove(section);
+        index().remove(section);
+    }
+
+    private SectionIndex index() {
+        if (sectionIndex == null) {
+            sectionIndex = new SectionIndex(sections);
+        }
+        return sectionIndex;
     }
 }
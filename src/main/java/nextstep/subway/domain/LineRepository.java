@@ -1,6 +1,96 @@
 package nextstep.subway.domain;
 
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.TableSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
+    /**
+     * 노선과 구간을 엔티티로 만들지 않고 필요한 컬럼만 읽는다. 구간의 역은 외래 키만 읽으므로 역 테이블과 조인하지 않는다.
+     */
+    @Query("select new nextstep.subway.domain.network.NetworkLine(l.id, l.name, l.color, l.createdDate, l.modifiedDate) " +
+            "from Line l order by l.id")
+    List<NetworkLine> findAllNetworkLines();
+
+    @Query("select new nextstep.subway.domain.network.NetworkLine(l.id, l.name, l.color, l.createdDate, l.modifiedDate) " +
+            "from Line l where l.id = :id")
+    Optional<NetworkLine> findNetworkLineById(@Param("id") Long id);
+
+    @Query("select new nextstep.subway.domain.network.NetworkSection(s.line.id, s.upStation.id, s.downStation.id, s.distance, s.duration) " +
+            "from Section s order by s.line.id, s.id")
+    List<NetworkSection> findAllNetworkSections();
+
+    @Query("select new nextstep.subway.domain.network.NetworkSection(s.line.id, s.upStation.id, s.downStation.id, s.distance, s.duration) " +
+            "from Section s where s.line.id = :lineId order by s.id")
+    List<NetworkSection> findNetworkSectionsByLineId(@Param("lineId") Long lineId);
+
+    @Query("select new nextstep.subway.domain.network.NetworkLine(l.id, l.name, l.color, l.createdDate, l.modifiedDate) " +
+            "from Line l where l.id > :after order by l.id")
+    Slice<NetworkLine> findNetworkLinesAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("select new nextstep.subway.domain.network.NetworkLine(l.id, l.name, l.color, l.createdDate, l.modifiedDate) " +
+            "from Line l where l.name like :namePattern escape '!' and l.id > :after order by l.id")
+    Slice<NetworkLine> findNetworkLinesByNameAfter(@Param("namePattern") String namePattern,
+                                                   @Param("after") long after, Pageable pageable);
+
+    /**
+     * section.line_id 인덱스로 주어진 노선의 구간만 읽는다.
+     */
+    @Query("select new nextstep.subway.domain.network.NetworkSection(s.line.id, s.upStation.id, s.downStation.id, s.distance, s.duration) " +
+            "from Section s where s.line.id in :lineIds order by s.line.id, s.id")
+    List<NetworkSection> findNetworkSectionsByLineIdIn(@Param("lineIds") Collection<Long> lineIds);
+
+    boolean existsByNameIn(Collection<String> names);
+
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select l from Line l order by l.id")
+    Stream<Line> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select s from Section s " +
+            "join fetch s.line " +
+            "join fetch s.upStation " +
+            "join fetch s.downStation " +
+            "order by s.line.id, s.id")
+    Stream<Section> streamAllSections();
+
+    @Query("select new nextstep.subway.domain.network.TableSummary(count(l), coalesce(sum(l.id), 0), max(l.modifiedDate)) from Line l")
+    TableSummary summarize();
+
+    @Query("select new nextstep.subway.domain.network.TableSummary(count(s), " +
+            "coalesce(sum(s.id * 31 + s.line.id * 17 + s.upStation.id * 7 + s.downStation.id * 3 + s.distance * 5 + s.duration), 0)) " +
+            "from Section s")
+    TableSummary summarizeSections();
+
+    /**
+     * {@link nextstep.subway.domain.network.Network#summarizeLines()} 와 같은 식으로 노선의 id, 이름과 색 길이, 수정 시각을 집계한다.
+     */
+    @Query("select new nextstep.subway.domain.network.TableSummary(count(l), coalesce(sum(l.id * 31 + coalesce(length(l.name), 0) * 7 " +
+            "+ coalesce(length(l.color), 0) * 5 " +
+            "+ coalesce(day(l.modifiedDate) * 86400 + hour(l.modifiedDate) * 3600 + minute(l.modifiedDate) * 60 + second(l.modifiedDate), 0)), 0)) " +
+            "from Line l")
+    TableSummary summarizeContents();
+
+    @Query("select new nextstep.subway.domain.network.TableSummary(count(s), " +
+            "coalesce(sum(s.line.id * 17 + s.upStation.id * 7 + s.downStation.id * 3 + s.distance * 5 + s.duration), 0)) " +
+            "from Section s")
+    TableSummary summarizeSectionContents();
 }
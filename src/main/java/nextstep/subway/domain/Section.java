@@ -3,9 +3,11 @@ package nextstep.subway.domain;
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_section_line_id", columnList = "line_id"))
 public class Section {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_seq_generator")
+    @SequenceGenerator(name = "section_seq_generator", sequenceName = "section_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(cascade = CascadeType.PERSIST)
@@ -22,15 +24,22 @@ public class Section {
 
     private int distance;
 
+    private int duration;
+
     public Section() {
 
     }
 
     public Section(Line line, Station upStation, Station downStation, int distance) {
+        this(line, upStation, downStation, distance, 0);
+    }
+
+    public Section(Line line, Station upStation, Station downStation, int distance, int duration) {
         this.line = line;
         this.upStation = upStation;
         this.downStation = downStation;
         this.distance = distance;
+        this.duration = duration;
     }
 
     public Long getId() {
@@ -52,4 +61,20 @@ public class Section {
     public int getDistance() {
         return distance;
     }
-}
\ No newline at end of file
+
+    public int getDuration() {
+        return duration;
+    }
+
+    void changeUpStation(Station upStation, int distance, int duration) {
+        this.upStation = upStation;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    void changeDownStation(Station downStation, int distance, int duration) {
+        this.downStation = downStation;
+        this.distance = distance;
+        this.duration = duration;
+    }
+}
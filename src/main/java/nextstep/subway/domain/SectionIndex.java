@@ -0,0 +1,68 @@
+package nextstep.subway.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 노선의 구간을 상행역/하행역으로 찾는 색인. 이웃 구간은 O(1), 전체 역 순회는 O(n) 이다.
+ */
+class SectionIndex {
+    private final Map<Station, Section> byUpStation = new IdentityHashMap<>();
+    private final Map<Station, Section> byDownStation = new IdentityHashMap<>();
+
+    SectionIndex(List<Section> sections) {
+        sections.forEach(this::put);
+    }
+
+    void put(Section section) {
+        byUpStation.put(section.getUpStation(), section);
+        byDownStation.put(section.getDownStation(), section);
+    }
+
+    void remove(Section section) {
+        byUpStation.remove(section.getUpStation(), section);
+        byDownStation.remove(section.getDownStation(), section);
+    }
+
+    Section startingAt(Station station) {
+        return byUpStation.get(station);
+    }
+
+    Section endingAt(Station station) {
+        return byDownStation.get(station);
+    }
+
+    boolean contains(Station station) {
+        return byUpStation.containsKey(station) || byDownStation.containsKey(station);
+    }
+
+    /**
+     * 상행 종점부터 하행 종점까지의 역 목록. 구간이 순환하더라도 이미 지난 역에서 멈추므로 끝없이 돌지 않는다.
+     */
+    List<Station> stations() {
+        if (byUpStation.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Station> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Station station = byUpStation.keySet().iterator().next();
+        while (byDownStation.containsKey(station) && visited.add(station)) {
+            station = byDownStation.get(station).getUpStation();
+        }
+
+        visited.clear();
+        List<Station> stations = new ArrayList<>(byUpStation.size() + 1);
+        stations.add(station);
+        visited.add(station);
+        Section section;
+        while ((section = byUpStation.get(station)) != null && visited.add(section.getDownStation())) {
+            station = section.getDownStation();
+            stations.add(station);
+        }
+        return stations;
+    }
+}
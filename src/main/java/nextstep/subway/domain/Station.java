@@ -5,7 +5,8 @@ import javax.persistence.*;
 @Entity
 public class Station extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_seq_generator")
+    @SequenceGenerator(name = "station_seq_generator", sequenceName = "station_seq", allocationSize = 100)
     private Long id;
     @Column(unique = true)
     private String name;
@@ -1,10 +1,85 @@
 package nextstep.subway.domain;
 
+import nextstep.subway.domain.network.NetworkStation;
+import nextstep.subway.domain.network.TableSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StationRepository extends JpaRepository<Station, Long> {
     @Override
     List<Station> findAll();
-}
\ No newline at end of file
+
+    List<Station> findByNameIn(Collection<String> names);
+
+    /**
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 필요한 컬럼만 읽는다.
+     */
+    @Query("select new nextstep.subway.domain.network.NetworkStation(s.id, s.name, s.createdDate, s.modifiedDate) " +
+            "from Station s order by s.id")
+    List<NetworkStation> findAllNetworkStations();
+
+    @Query("select new nextstep.subway.domain.network.NetworkStation(s.id, s.name, s.createdDate, s.modifiedDate) " +
+            "from Station s where s.id = :id")
+    Optional<NetworkStation> findNetworkStationById(@Param("id") Long id);
+
+    /**
+     * id 커서 다음부터 읽는다. 이름 조건은 station.name 의 유니크 인덱스로 범위를 좁힌다.
+     */
+    @Query("select new nextstep.subway.domain.network.NetworkStation(s.id, s.name, s.createdDate, s.modifiedDate) " +
+            "from Station s where s.id > :after order by s.id")
+    Slice<NetworkStation> findNetworkStationsAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("select new nextstep.subway.domain.network.NetworkStation(s.id, s.name, s.createdDate, s.modifiedDate) " +
+            "from Station s where s.name like :namePattern escape '!' and s.id > :after order by s.id")
+    Slice<NetworkStation> findNetworkStationsByNameAfter(@Param("namePattern") String namePattern,
+                                                         @Param("after") long after, Pageable pageable);
+
+    @Query("select new nextstep.subway.domain.network.NetworkStation(s.id, s.name, s.createdDate, s.modifiedDate) " +
+            "from Station s where s.name like :namePattern escape '!' and s.id > :after " +
+            "and exists (select sec.id from Section sec " +
+            "where sec.line.id = :lineId and (sec.upStation = s or sec.downStation = s)) " +
+            "order by s.id")
+    Slice<NetworkStation> findNetworkStationsByLineAndNameAfter(@Param("lineId") Long lineId,
+                                                                @Param("namePattern") String namePattern,
+                                                                @Param("after") long after, Pageable pageable);
+
+    @Query("select new nextstep.subway.domain.network.NetworkStation(s.id, s.name, s.createdDate, s.modifiedDate) " +
+            "from Station s where exists (select sec.id from Section sec " +
+            "where sec.upStation = s or sec.downStation = s) " +
+            "order by s.id")
+    List<NetworkStation> findNetworkStationsOnLines();
+
+    @Query("select new nextstep.subway.domain.network.NetworkStation(s.id, s.name, s.createdDate, s.modifiedDate) " +
+            "from Station s where exists (select sec.id from Section sec " +
+            "where sec.line.id in :lineIds and (sec.upStation = s or sec.downStation = s))")
+    List<NetworkStation> findNetworkStationsByLineIdIn(@Param("lineIds") Collection<Long> lineIds);
+
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select s from Station s order by s.id")
+    Stream<Station> streamAll();
+
+    @Query("select new nextstep.subway.domain.network.TableSummary(count(s), coalesce(sum(s.id), 0), max(s.modifiedDate)) from Station s")
+    TableSummary summarize();
+
+    /**
+     * {@link nextstep.subway.domain.network.Network#summarizeStations()} 와 같은 식으로 역의 id, 이름 길이와 수정 시각을 집계한다.
+     */
+    @Query("select new nextstep.subway.domain.network.TableSummary(count(s), coalesce(sum(s.id * 31 + coalesce(length(s.name), 0) * 7 " +
+            "+ coalesce(day(s.modifiedDate) * 86400 + hour(s.modifiedDate) * 3600 + minute(s.modifiedDate) * 60 + second(s.modifiedDate), 0)), 0)) " +
+            "from Station s")
+    TableSummary summarizeContents();
+}
@@ -0,0 +1,243 @@
+package nextstep.subway.domain.network;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Station;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 역, 노선, 구간을 JPA 엔티티와 분리해 담아 둔 읽기 전용 노선도.
+ * 역과 노선은 id 순으로, 구간은 노선 id 순으로 돌려준다. 노선별 역 순서는 상행에서 하행 순서로 미리 이어 둔다.
+ * 노선 하나나 역 하나를 바꾼 노선도는 나머지를 그대로 공유하며, 전체 목록은 처음 필요할 때 한 번만 만든다.
+ */
+public class Network {
+    private final OverlayMap<Long, NetworkStation> stationById;
+    private final OverlayMap<Long, NetworkLine> lineById;
+    private final OverlayMap<Long, List<NetworkSection>> sectionsByLine;
+    private final OverlayMap<Long, List<Long>> lineStationIds;
+    private final int sectionCount;
+    private volatile List<NetworkStation> stations;
+    private volatile List<NetworkLine> lines;
+    private volatile List<NetworkSection> sections;
+
+    public Network(List<NetworkStation> stations, List<NetworkLine> lines, List<NetworkSection> sections) {
+        Map<Long, NetworkStation> stationById = new HashMap<>();
+        stations.forEach(station -> stationById.put(station.getId(), station));
+        Map<Long, NetworkLine> lineById = new HashMap<>();
+        lines.forEach(line -> lineById.put(line.getId(), line));
+        Map<Long, List<NetworkSection>> sectionsByLine = new HashMap<>();
+        sections.forEach(section -> sectionsByLine.computeIfAbsent(section.getLineId(), lineId -> new ArrayList<>()).add(section));
+        Map<Long, List<Long>> lineStationIds = new HashMap<>();
+        sectionsByLine.forEach((lineId, lineSections) -> lineStationIds.put(lineId, orderStationIds(lineSections)));
+
+        this.stationById = OverlayMap.of(stationById);
+        this.lineById = OverlayMap.of(lineById);
+        this.sectionsByLine = OverlayMap.of(sectionsByLine);
+        this.lineStationIds = OverlayMap.of(lineStationIds);
+        this.sectionCount = sections.size();
+    }
+
+    private Network(OverlayMap<Long, NetworkStation> stationById, OverlayMap<Long, NetworkLine> lineById,
+                    OverlayMap<Long, List<NetworkSection>> sectionsByLine, OverlayMap<Long, List<Long>> lineStationIds,
+                    int sectionCount) {
+        this.stationById = stationById;
+        this.lineById = lineById;
+        this.sectionsByLine = sectionsByLine;
+        this.lineStationIds = lineStationIds;
+        this.sectionCount = sectionCount;
+    }
+
+    public static Network empty() {
+        return new Network(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    public static Network of(List<Station> stations, List<Line> lines) {
+        return new Network(
+                stations.stream().map(NetworkStation::of).collect(Collectors.toList()),
+                lines.stream().map(NetworkLine::of).collect(Collectors.toList()),
+                lines.stream()
+                        .flatMap(line -> line.getSections().stream())
+                        .map(NetworkSection::of)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    public List<NetworkStation> getStations() {
+        List<NetworkStation> current = stations;
+        if (current == null) {
+            List<NetworkStation> sorted = stationById.values();
+            sorted.sort(Comparator.comparingLong(NetworkStation::getId));
+            current = Collections.unmodifiableList(sorted);
+            stations = current;
+        }
+        return current;
+    }
+
+    public List<NetworkLine> getLines() {
+        List<NetworkLine> current = lines;
+        if (current == null) {
+            List<NetworkLine> sorted = lineById.values();
+            sorted.sort(Comparator.comparingLong(NetworkLine::getId));
+            current = Collections.unmodifiableList(sorted);
+            lines = current;
+        }
+        return current;
+    }
+
+    public List<NetworkSection> getSections() {
+        List<NetworkSection> current = sections;
+        if (current == null) {
+            List<List<NetworkSection>> byLine = sectionsByLine.values();
+            byLine.sort(Comparator.comparingLong(lineSections -> lineSections.get(0).getLineId()));
+            List<NetworkSection> flattened = new ArrayList<>(sectionCount);
+            byLine.forEach(flattened::addAll);
+            current = Collections.unmodifiableList(flattened);
+            sections = current;
+        }
+        return current;
+    }
+
+    public int stationCount() {
+        return stationById.size();
+    }
+
+    public int lineCount() {
+        return lineById.size();
+    }
+
+    public int sectionCount() {
+        return sectionCount;
+    }
+
+    public Optional<NetworkStation> findStation(long id) {
+        return Optional.ofNullable(stationById.get(id));
+    }
+
+    public Optional<NetworkLine> findLine(long id) {
+        return Optional.ofNullable(lineById.get(id));
+    }
+
+    /**
+     * 노선의 역을 상행 종점부터 하행 종점까지 순서대로 반환한다.
+     */
+    public List<NetworkStation> getStations(NetworkLine line) {
+        List<Long> stationIds = lineStationIds.get(line.getId());
+        if (stationIds == null) {
+            return Collections.emptyList();
+        }
+        List<NetworkStation> lineStations = new ArrayList<>(stationIds.size());
+        for (Long stationId : stationIds) {
+            NetworkStation station = stationById.get(stationId);
+            if (station != null) {
+                lineStations.add(station);
+            }
+        }
+        return lineStations;
+    }
+
+    /**
+     * 노선 하나의 정보와 구간만 바꾼 새 노선도를 만든다. line 이 null 이면 노선을 지운다.
+     */
+    public Network replaceLine(long lineId, NetworkLine line, List<NetworkSection> lineSections) {
+        List<NetworkSection> previous = sectionsByLine.get(lineId);
+        List<NetworkSection> changed = line == null || lineSections.isEmpty()
+                ? null : Collections.unmodifiableList(new ArrayList<>(lineSections));
+        return new Network(
+                stationById,
+                lineById.with(lineId, line),
+                sectionsByLine.with(lineId, changed),
+                lineStationIds.with(lineId, changed == null ? null : orderStationIds(changed)),
+                sectionCount - (previous == null ? 0 : previous.size()) + (changed == null ? 0 : changed.size())
+        );
+    }
+
+    /**
+     * 역 하나만 바꾼 새 노선도를 만든다. station 이 null 이면 역을 지운다.
+     * 노선별 역 순서는 역 id 로 들고 있으므로 다시 잇지 않는다.
+     */
+    public Network replaceStation(long stationId, NetworkStation station) {
+        return new Network(stationById.with(stationId, station), lineById, sectionsByLine, lineStationIds, sectionCount);
+    }
+
+    /**
+     * {@link nextstep.subway.domain.StationRepository#summarizeContents()} 와 같은 식으로 역 내용을 집계한다.
+     * 이름이나 수정 시각이 어긋난 역도 드러나도록 id 외에 이름 길이와 수정 시각을 섞는다.
+     */
+    public TableSummary summarizeStations() {
+        long checksum = getStations().stream()
+                .mapToLong(it -> it.getId() * 31 + length(it.getName()) * 7L + modifiedChecksum(it.getModifiedDate()))
+                .sum();
+        return new TableSummary((long) stationCount(), checksum);
+    }
+
+    /**
+     * {@link nextstep.subway.domain.LineRepository#summarizeContents()} 와 같은 식으로 노선 내용을 집계한다.
+     */
+    public TableSummary summarizeLines() {
+        long checksum = getLines().stream()
+                .mapToLong(it -> it.getId() * 31 + length(it.getName()) * 7L + length(it.getColor()) * 5L
+                        + modifiedChecksum(it.getModifiedDate()))
+                .sum();
+        return new TableSummary((long) lineCount(), checksum);
+    }
+
+    /**
+     * {@link nextstep.subway.domain.LineRepository#summarizeSectionContents()} 와 같은 식으로 구간 내용을 집계한다.
+     */
+    public TableSummary summarizeSections() {
+        long checksum = getSections().stream()
+                .mapToLong(it -> it.getLineId() * 17 + it.getUpStationId() * 7 + it.getDownStationId() * 3
+                        + it.getDistance() * 5L + it.getDuration())
+                .sum();
+        return new TableSummary((long) sectionCount, checksum);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * 집계 쿼리의 day/hour/minute/second 와 같은 값. 월과 연도는 빼서 쿼리 안의 정수 곱셈이 넘치지 않게 한다.
+     */
+    private static long modifiedChecksum(LocalDateTime modifiedDate) {
+        if (modifiedDate == null) {
+            return 0;
+        }
+        return modifiedDate.getDayOfMonth() * 86400L + modifiedDate.getHour() * 3600L
+                + modifiedDate.getMinute() * 60L + modifiedDate.getSecond();
+    }
+
+    /**
+     * 하행역으로 한 번도 나오지 않은 상행역부터 구간을 따라간다. 순환하는 노선은 처음 등록된 구간부터 한 바퀴만 돈다.
+     */
+    private static List<Long> orderStationIds(List<NetworkSection> lineSections) {
+        Map<Long, Long> downStationIds = new LinkedHashMap<>();
+        for (NetworkSection section : lineSections) {
+            downStationIds.put(section.getUpStationId(), section.getDownStationId());
+        }
+
+        Set<Long> downs = new HashSet<>(downStationIds.values());
+        Long head = downStationIds.keySet().stream()
+                .filter(up -> !downs.contains(up))
+                .findFirst()
+                .orElse(downStationIds.keySet().iterator().next());
+
+        List<Long> ordered = new ArrayList<>(downStationIds.size() + 1);
+        Set<Long> visited = new HashSet<>();
+        for (Long current = head; current != null && visited.add(current); current = downStationIds.get(current)) {
+            ordered.add(current);
+        }
+        return Collections.unmodifiableList(ordered);
+    }
+}
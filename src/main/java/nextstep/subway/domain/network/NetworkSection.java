@@ -0,0 +1,53 @@
+package nextstep.subway.domain.network;
+
+import nextstep.subway.domain.Section;
+
+public class NetworkSection {
+    private final long lineId;
+    private final long upStationId;
+    private final long downStationId;
+    private final int distance;
+    private final int duration;
+
+    public NetworkSection(long lineId, long upStationId, long downStationId, int distance) {
+        this(lineId, upStationId, downStationId, distance, 0);
+    }
+
+    public NetworkSection(long lineId, long upStationId, long downStationId, int distance, int duration) {
+        this.lineId = lineId;
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    public static NetworkSection of(Section section) {
+        return new NetworkSection(
+                section.getLine().getId(),
+                section.getUpStation().getId(),
+                section.getDownStation().getId(),
+                section.getDistance(),
+                section.getDuration()
+        );
+    }
+
+    public long getLineId() {
+        return lineId;
+    }
+
+    public long getUpStationId() {
+        return upStationId;
+    }
+
+    public long getDownStationId() {
+        return downStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,189 @@
+package nextstep.subway.domain.network;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * {@link Network} 를 바이너리 파일로 저장하고 메모리 매핑으로 읽어 들인다.
+ * <pre>
+ * header  : magic(int) formatVersion(int) fingerprint(long) checksum(long) payloadLength(int)
+ * payload : stations, lines, sections (각각 개수(int) 뒤에 항목이 이어진다)
+ * </pre>
+ * fingerprint 는 저장 시점 DB 의 집계 값이며, 읽을 때 현재 DB 와 다르면 스냅샷을 버린다.
+ */
+public class NetworkSnapshot {
+    private static final int MAGIC = 0x53554257;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 2 + Integer.BYTES;
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    private NetworkSnapshot() {
+    }
+
+    public static long fingerprint(TableSummary stations, TableSummary lines, TableSummary sections) {
+        return (stations.hash() * 31 + lines.hash()) * 31 + sections.hash();
+    }
+
+    public static void write(Path file, Network network, long fingerprint) throws IOException {
+        byte[] payload = serialize(network);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(fingerprint)
+                .putLong(crc.getValue())
+                .putInt(payload.length);
+        header.flip();
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer[] buffers = {header, ByteBuffer.wrap(payload)};
+            while (buffers[1].hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 파일이 없거나, 손상되었거나, fingerprint 가 다르면 비어 있는 값을 반환한다.
+     */
+    public static Optional<Network> read(Path file, long fingerprint) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) < HEADER_SIZE) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != fingerprint) {
+                return Optional.empty();
+            }
+
+            long checksum = buffer.getLong();
+            int payloadLength = buffer.getInt();
+            if (payloadLength != buffer.remaining()) {
+                return Optional.empty();
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if (crc.getValue() != checksum) {
+                return Optional.empty();
+            }
+            return Optional.of(deserialize(buffer));
+        }
+    }
+
+    private static byte[] serialize(Network network) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(network.getStations().size());
+        for (NetworkStation station : network.getStations()) {
+            out.writeLong(station.getId());
+            writeString(out, station.getName());
+            writeDate(out, station.getCreatedDate());
+            writeDate(out, station.getModifiedDate());
+        }
+
+        out.writeInt(network.getLines().size());
+        for (NetworkLine line : network.getLines()) {
+            out.writeLong(line.getId());
+            writeString(out, line.getName());
+            writeString(out, line.getColor());
+            writeDate(out, line.getCreatedDate());
+            writeDate(out, line.getModifiedDate());
+        }
+
+        out.writeInt(network.getSections().size());
+        for (NetworkSection section : network.getSections()) {
+            out.writeLong(section.getLineId());
+            out.writeLong(section.getUpStationId());
+            out.writeLong(section.getDownStationId());
+            out.writeInt(section.getDistance());
+            out.writeInt(section.getDuration());
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static Network deserialize(ByteBuffer buffer) {
+        int stationCount = buffer.getInt();
+        List<NetworkStation> stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            stations.add(new NetworkStation(buffer.getLong(), readString(buffer), readDate(buffer), readDate(buffer)));
+        }
+
+        int lineCount = buffer.getInt();
+        List<NetworkLine> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new NetworkLine(buffer.getLong(), readString(buffer), readString(buffer), readDate(buffer), readDate(buffer)));
+        }
+
+        int sectionCount = buffer.getInt();
+        List<NetworkSection> sections = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            sections.add(new NetworkSection(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt()));
+        }
+
+        return new Network(stations, lines, sections);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDate(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(NULL_DATE);
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDate(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        if (epochSecond == NULL_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, buffer.getInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,39 @@
+package nextstep.subway.domain.network;
+
+import nextstep.subway.domain.Station;
+
+import java.time.LocalDateTime;
+
+public class NetworkStation {
+    private final long id;
+    private final String name;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime modifiedDate;
+
+    public NetworkStation(long id, String name, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this.id = id;
+        this.name = name;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+
+    public static NetworkStation of(Station station) {
+        return new NetworkStation(station.getId(), station.getName(), station.getCreatedDate(), station.getModifiedDate());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public LocalDateTime getModifiedDate() {
+        return modifiedDate;
+    }
+}
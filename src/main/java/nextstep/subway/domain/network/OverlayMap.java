@@ -0,0 +1,85 @@
+package nextstep.subway.domain.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공유하는 기본 맵 위에 바뀐 항목만 따로 얹은 불변 맵. 값으로 null 을 넣으면 그 키를 지운다.
+ * 바뀐 항목이 기본 맵 크기의 제곱근을 넘으면 하나로 합치므로, 한 번 바꾸는 비용은 평균 O(√n) 이다.
+ */
+final class OverlayMap<K, V> {
+    private static final int MIN_CHANGES = 16;
+    private static final Object REMOVED = new Object();
+
+    private final Map<K, V> base;
+    private final Map<K, Object> changes;
+    private final int size;
+
+    private OverlayMap(Map<K, V> base, Map<K, Object> changes, int size) {
+        this.base = base;
+        this.changes = changes;
+        this.size = size;
+    }
+
+    static <K, V> OverlayMap<K, V> of(Map<K, V> base) {
+        return new OverlayMap<>(base, Collections.emptyMap(), base.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(K key) {
+        Object changed = changes.get(key);
+        if (changed != null) {
+            return changed == REMOVED ? null : (V) changed;
+        }
+        return base.get(key);
+    }
+
+    int size() {
+        return size;
+    }
+
+    OverlayMap<K, V> with(K key, V value) {
+        boolean existed = get(key) != null;
+        if (!existed && value == null) {
+            return this;
+        }
+
+        Map<K, Object> nextChanges = new HashMap<>(changes);
+        nextChanges.put(key, value == null ? REMOVED : value);
+        int nextSize = size + (value == null ? 0 : 1) - (existed ? 1 : 0);
+        if (nextChanges.size() > Math.max(MIN_CHANGES, (int) Math.sqrt(base.size()))) {
+            return compact(nextChanges, nextSize);
+        }
+        return new OverlayMap<>(base, nextChanges, nextSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private OverlayMap<K, V> compact(Map<K, Object> nextChanges, int nextSize) {
+        Map<K, V> merged = new HashMap<>(base);
+        nextChanges.forEach((key, value) -> {
+            if (value == REMOVED) {
+                merged.remove(key);
+            } else {
+                merged.put(key, (V) value);
+            }
+        });
+        return new OverlayMap<>(merged, Collections.emptyMap(), nextSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    List<V> values() {
+        List<V> values = new ArrayList<>(size);
+        base.forEach((key, value) -> {
+            if (!changes.containsKey(key)) {
+                values.add(value);
+            }
+        });
+        changes.values().stream()
+                .filter(value -> value != REMOVED)
+                .forEach(value -> values.add((V) value));
+        return values;
+    }
+}
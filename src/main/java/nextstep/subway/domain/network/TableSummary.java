@@ -0,0 +1,28 @@
+package nextstep.subway.domain.network;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 테이블 전체를 읽지 않고 변경 여부를 확인하기 위한 집계 값.
+ */
+public class TableSummary {
+    private final long count;
+    private final long checksum;
+    private final LocalDateTime lastModified;
+
+    public TableSummary(Long count, Long checksum) {
+        this(count, checksum, null);
+    }
+
+    public TableSummary(Long count, Long checksum, LocalDateTime lastModified) {
+        this.count = count;
+        this.checksum = checksum;
+        this.lastModified = lastModified;
+    }
+
+    public long hash() {
+        long modified = lastModified == null ? 0 : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + lastModified.getNano();
+        return (count * 31 + checksum) * 31 + modified;
+    }
+}
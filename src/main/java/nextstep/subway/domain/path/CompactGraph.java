@@ -0,0 +1,119 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/**
+ * 역을 0부터 시작하는 인덱스로 치환한 CSR(compressed sparse row) 형태의 무방향 그래프.
+ * 정점 v 의 인접 정점은 targets[offsets[v]] ~ targets[offsets[v + 1] - 1] 에 연속으로 저장된다.
+ */
+public class CompactGraph {
+    private final long[] stationIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] durations;
+    private final int[] lines;
+
+    /**
+     * @param stationIds 정렬된 중복 없는 역 id 목록. 배열 위치가 정점 인덱스가 된다.
+     */
+    public CompactGraph(long[] stationIds, int[] upIndexes, int[] downIndexes, int[] distances) {
+        this(stationIds, upIndexes, downIndexes, distances, new int[upIndexes.length], new int[upIndexes.length]);
+    }
+
+    /**
+     * @param lineIndexes 구간이 속한 노선을 0부터 시작하는 인덱스로 치환한 값
+     */
+    public CompactGraph(long[] stationIds, int[] upIndexes, int[] downIndexes, int[] distances,
+                        int[] durations, int[] lineIndexes) {
+        int vertexCount = stationIds.length;
+        int edgeCount = upIndexes.length;
+
+        this.stationIds = stationIds;
+        this.offsets = new int[vertexCount + 1];
+        this.targets = new int[edgeCount * 2];
+        this.weights = new int[edgeCount * 2];
+        this.durations = new int[edgeCount * 2];
+        this.lines = new int[edgeCount * 2];
+
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[upIndexes[i] + 1]++;
+            offsets[downIndexes[i] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, vertexCount);
+        for (int i = 0; i < edgeCount; i++) {
+            int up = upIndexes[i];
+            int down = downIndexes[i];
+            setEdge(cursor[up]++, down, distances[i], durations[i], lineIndexes[i]);
+            setEdge(cursor[down]++, up, distances[i], durations[i], lineIndexes[i]);
+        }
+    }
+
+    private void setEdge(int edge, int target, int distance, int duration, int line) {
+        targets[edge] = target;
+        weights[edge] = distance;
+        durations[edge] = duration;
+        lines[edge] = line;
+    }
+
+    public int vertexCount() {
+        return stationIds.length;
+    }
+
+    public int edgeCount() {
+        return targets.length / 2;
+    }
+
+    public int indexOf(long stationId) {
+        return Arrays.binarySearch(stationIds, stationId);
+    }
+
+    public long stationIdOf(int index) {
+        return stationIds[index];
+    }
+
+    public int firstEdge(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int lastEdge(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public int weight(int edge) {
+        return weights[edge];
+    }
+
+    public int duration(int edge) {
+        return durations[edge];
+    }
+
+    public int line(int edge) {
+        return lines[edge];
+    }
+
+    /**
+     * from 에서 to 로 가는 간선 중 거리가 가장 짧은 간선. 거리가 같으면 preferredLine 의 간선을 고른다.
+     */
+    public int edgeBetween(int from, int to, int preferredLine) {
+        int found = -1;
+        for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+            if (targets[edge] != to) {
+                continue;
+            }
+            if (found < 0 || weights[edge] < weights[found]
+                    || (weights[edge] == weights[found] && lines[edge] == preferredLine)) {
+                found = edge;
+            }
+        }
+        return found;
+    }
+}
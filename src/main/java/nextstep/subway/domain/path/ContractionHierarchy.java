@@ -0,0 +1,401 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 거리 기준 contraction hierarchy.
+ * 중요도가 낮은 역부터 차례로 축약하면서 최단 거리를 보존하는 지름길 간선을 추가하고,
+ * 질의는 출발역과 도착역에서 순위가 높은 역 쪽으로만 양방향 다익스트라 탐색을 한다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드가 동시에 질의할 수 있다.
+ */
+public class ContractionHierarchy {
+    private static final int NONE = -1;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int WITNESS_SETTLE_LIMIT = 100;
+
+    private final int vertexCount;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int[] middles;
+    private final Queue<QueryState> states = new ConcurrentLinkedQueue<>();
+
+    public ContractionHierarchy(CompactGraph graph) {
+        this.vertexCount = graph.vertexCount();
+        Adjacency[] upward = new Builder(graph).contractAll();
+
+        this.offsets = new int[vertexCount + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] = offsets[v] + upward[v].size;
+        }
+        this.targets = new int[offsets[vertexCount]];
+        this.weights = new int[offsets[vertexCount]];
+        this.middles = new int[offsets[vertexCount]];
+        for (int v = 0; v < vertexCount; v++) {
+            Adjacency adjacency = upward[v];
+            System.arraycopy(adjacency.targets, 0, targets, offsets[v], adjacency.size);
+            System.arraycopy(adjacency.weights, 0, weights, offsets[v], adjacency.size);
+            System.arraycopy(adjacency.middles, 0, middles, offsets[v], adjacency.size);
+        }
+    }
+
+    public int shortcutCount() {
+        int count = 0;
+        for (int middle : middles) {
+            if (middle != NONE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 출발 정점부터 도착 정점까지 원래 그래프의 정점 인덱스. 도달할 수 없으면 빈 배열을 반환한다.
+     */
+    public int[] path(int source, int target) {
+        QueryState state = states.poll();
+        if (state == null) {
+            state = new QueryState(vertexCount);
+        }
+        try {
+            return state.search(source, target);
+        } finally {
+            state.reset();
+            states.offer(state);
+        }
+    }
+
+    private int edgeOf(int from, int to) {
+        for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+            if (targets[edge] == to) {
+                return edge;
+            }
+        }
+        throw new IllegalStateException("지름길 간선을 풀 수 없습니다. from=" + from + ", to=" + to);
+    }
+
+    /**
+     * from 다음부터 to 까지의 정점을 path 에 이어 붙인다. 지름길이면 가운데 정점을 기준으로 나눠 푼다.
+     */
+    private void unpack(int from, int to, int middle, IntList path) {
+        if (middle == NONE) {
+            path.add(to);
+            return;
+        }
+        unpack(from, middle, middles[edgeOf(middle, from)], path);
+        unpack(middle, to, middles[edgeOf(middle, to)], path);
+    }
+
+    private class QueryState {
+        private final SearchSide forward;
+        private final SearchSide backward;
+
+        private QueryState(int vertexCount) {
+            this.forward = new SearchSide(vertexCount);
+            this.backward = new SearchSide(vertexCount);
+        }
+
+        private int[] search(int source, int target) {
+            forward.start(source);
+            backward.start(target);
+
+            int best = UNREACHABLE;
+            int meeting = NONE;
+            while (true) {
+                boolean forwardDone = forward.isDone(best);
+                boolean backwardDone = backward.isDone(best);
+                if (forwardDone && backwardDone) {
+                    break;
+                }
+                SearchSide side = forwardDone ? backward
+                        : backwardDone ? forward
+                        : forward.heap.peekKey() <= backward.heap.peekKey() ? forward : backward;
+                SearchSide other = side == forward ? backward : forward;
+
+                int vertex = side.settle();
+                if (other.distances[vertex] != UNREACHABLE && side.distances[vertex] + other.distances[vertex] < best) {
+                    best = side.distances[vertex] + other.distances[vertex];
+                    meeting = vertex;
+                }
+            }
+
+            if (meeting == NONE) {
+                return new int[0];
+            }
+            return createPath(source, target, meeting);
+        }
+
+        private int[] createPath(int source, int target, int meeting) {
+            IntList upEdges = new IntList();
+            for (int v = meeting; v != source; v = forward.previous[v]) {
+                upEdges.add(forward.previousEdges[v]);
+            }
+
+            IntList path = new IntList();
+            path.add(source);
+            int from = source;
+            for (int i = upEdges.size - 1; i >= 0; i--) {
+                int edge = upEdges.values[i];
+                unpack(from, targets[edge], middles[edge], path);
+                from = targets[edge];
+            }
+            for (int v = meeting; v != target; v = backward.previous[v]) {
+                unpack(v, backward.previous[v], middles[backward.previousEdges[v]], path);
+            }
+            return path.toArray();
+        }
+
+        private void reset() {
+            forward.reset();
+            backward.reset();
+        }
+    }
+
+    private class SearchSide {
+        private final int[] distances;
+        private final int[] previous;
+        private final int[] previousEdges;
+        private final int[] touched;
+        private final IntMinHeap heap;
+        private int touchedCount;
+
+        private SearchSide(int vertexCount) {
+            this.distances = new int[vertexCount];
+            this.previous = new int[vertexCount];
+            this.previousEdges = new int[vertexCount];
+            this.touched = new int[vertexCount];
+            this.heap = new IntMinHeap(vertexCount);
+            Arrays.fill(distances, UNREACHABLE);
+        }
+
+        private void start(int vertex) {
+            update(vertex, 0, NONE, NONE);
+        }
+
+        private boolean isDone(int best) {
+            return heap.isEmpty() || heap.peekKey() >= best;
+        }
+
+        private int settle() {
+            int vertex = heap.poll();
+            int distance = distances[vertex];
+            for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                int candidate = distance + weights[edge];
+                if (candidate < distances[targets[edge]]) {
+                    update(targets[edge], candidate, vertex, edge);
+                }
+            }
+            return vertex;
+        }
+
+        private void update(int vertex, int distance, int from, int edge) {
+            if (distances[vertex] == UNREACHABLE) {
+                touched[touchedCount++] = vertex;
+            }
+            distances[vertex] = distance;
+            previous[vertex] = from;
+            previousEdges[vertex] = edge;
+            heap.push(vertex, distance);
+        }
+
+        private void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                distances[touched[i]] = UNREACHABLE;
+            }
+            touchedCount = 0;
+            heap.clear();
+        }
+    }
+
+    /**
+     * 정점을 하나씩 축약한다. 축약하는 순간 남아 있는 이웃은 모두 순위가 더 높으므로, 그 인접 목록이 곧 위쪽 간선이 된다.
+     */
+    private static class Builder {
+        private final int vertexCount;
+        private final Adjacency[] adjacencies;
+        private final int[] contractedNeighbors;
+        private final int[] witnessDistances;
+        private final int[] touched;
+        private final IntMinHeap witnessHeap;
+        private int touchedCount;
+
+        private Builder(CompactGraph graph) {
+            this.vertexCount = graph.vertexCount();
+            this.adjacencies = new Adjacency[vertexCount];
+            for (int v = 0; v < vertexCount; v++) {
+                adjacencies[v] = new Adjacency();
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                for (int edge = graph.firstEdge(v); edge < graph.lastEdge(v); edge++) {
+                    if (graph.target(edge) != v) {
+                        adjacencies[v].put(graph.target(edge), graph.weight(edge), NONE);
+                    }
+                }
+            }
+            this.contractedNeighbors = new int[vertexCount];
+            this.witnessDistances = new int[vertexCount];
+            this.touched = new int[vertexCount];
+            this.witnessHeap = new IntMinHeap(vertexCount);
+            Arrays.fill(witnessDistances, UNREACHABLE);
+        }
+
+        private Adjacency[] contractAll() {
+            IntMinHeap queue = new IntMinHeap(vertexCount);
+            for (int v = 0; v < vertexCount; v++) {
+                queue.push(v, priority(v));
+            }
+
+            Adjacency[] upward = new Adjacency[vertexCount];
+            while (!queue.isEmpty()) {
+                int vertex = queue.poll();
+                long priority = priority(vertex);
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.push(vertex, priority);
+                    continue;
+                }
+                upward[vertex] = contract(vertex);
+            }
+            return upward;
+        }
+
+        private long priority(int vertex) {
+            return 2L * addShortcuts(vertex, false) - adjacencies[vertex].size + contractedNeighbors[vertex];
+        }
+
+        private Adjacency contract(int vertex) {
+            addShortcuts(vertex, true);
+            Adjacency adjacency = adjacencies[vertex];
+            for (int i = 0; i < adjacency.size; i++) {
+                int neighbor = adjacency.targets[i];
+                adjacencies[neighbor].remove(vertex);
+                contractedNeighbors[neighbor]++;
+            }
+            return adjacency;
+        }
+
+        /**
+         * 이웃 쌍 (u, w) 사이에 vertex 를 거치지 않는 더 짧거나 같은 경로(witness)가 없으면 지름길이 필요하다.
+         */
+        private int addShortcuts(int vertex, boolean apply) {
+            Adjacency adjacency = adjacencies[vertex];
+            int count = 0;
+            for (int i = 0; i + 1 < adjacency.size; i++) {
+                int from = adjacency.targets[i];
+                int limit = 0;
+                for (int j = i + 1; j < adjacency.size; j++) {
+                    limit = Math.max(limit, adjacency.weights[i] + adjacency.weights[j]);
+                }
+
+                searchWitness(from, vertex, limit);
+                for (int j = i + 1; j < adjacency.size; j++) {
+                    int to = adjacency.targets[j];
+                    int via = adjacency.weights[i] + adjacency.weights[j];
+                    if (witnessDistances[to] <= via) {
+                        continue;
+                    }
+                    count++;
+                    if (apply) {
+                        adjacencies[from].put(to, via, vertex);
+                        adjacencies[to].put(from, via, vertex);
+                    }
+                }
+                resetWitness();
+            }
+            return count;
+        }
+
+        private void searchWitness(int source, int excluded, int limit) {
+            touch(source, 0);
+            witnessHeap.push(source, 0);
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+                int vertex = witnessHeap.poll();
+                int distance = witnessDistances[vertex];
+                if (distance > limit) {
+                    break;
+                }
+                Adjacency adjacency = adjacencies[vertex];
+                for (int i = 0; i < adjacency.size; i++) {
+                    int next = adjacency.targets[i];
+                    int candidate = distance + adjacency.weights[i];
+                    if (next != excluded && candidate < witnessDistances[next]) {
+                        touch(next, candidate);
+                        witnessHeap.push(next, candidate);
+                    }
+                }
+            }
+            witnessHeap.clear();
+        }
+
+        private void touch(int vertex, int distance) {
+            if (witnessDistances[vertex] == UNREACHABLE) {
+                touched[touchedCount++] = vertex;
+            }
+            witnessDistances[vertex] = distance;
+        }
+
+        private void resetWitness() {
+            for (int i = 0; i < touchedCount; i++) {
+                witnessDistances[touched[i]] = UNREACHABLE;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    private static class Adjacency {
+        private int[] targets = new int[4];
+        private int[] weights = new int[4];
+        private int[] middles = new int[4];
+        private int size;
+
+        private void put(int target, int weight, int middle) {
+            for (int i = 0; i < size; i++) {
+                if (targets[i] == target) {
+                    if (weight < weights[i]) {
+                        weights[i] = weight;
+                        middles[i] = middle;
+                    }
+                    return;
+                }
+            }
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+            targets[size] = target;
+            weights[size] = weight;
+            middles[size++] = middle;
+        }
+
+        private void remove(int target) {
+            for (int i = 0; i < size; i++) {
+                if (targets[i] == target) {
+                    size--;
+                    targets[i] = targets[size];
+                    weights[i] = weights[size];
+                    middles[i] = middles[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/**
+ * {@link CompactGraph} 위에서 원시 배열만으로 동작하는 다익스트라 탐색.
+ * 한 인스턴스는 하나의 스레드에서만 사용하며, 탐색할 때마다 이전 탐색이 건드린 정점만 되돌리고 결과를 덮어쓴다.
+ */
+public class Dijkstra {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    public static final int NONE = -1;
+
+    private final CompactGraph graph;
+    private final int[] distances;
+    private final int[] previous;
+    private final int[] touched;
+    private final IntMinHeap heap;
+    private int touchedCount;
+
+    public Dijkstra(CompactGraph graph) {
+        this.graph = graph;
+        this.distances = new int[graph.vertexCount()];
+        this.previous = new int[graph.vertexCount()];
+        this.touched = new int[graph.vertexCount()];
+        this.heap = new IntMinHeap(graph.vertexCount());
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(previous, NONE);
+    }
+
+    public void search(int source) {
+        search(source, NONE);
+    }
+
+    /**
+     * target 이 확정되면 탐색을 멈춘다. target 이 {@link #NONE} 이면 모든 정점을 탐색한다.
+     */
+    public void search(int source, int target) {
+        start(source);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            if (vertex == target) {
+                return;
+            }
+            relaxEdges(vertex);
+        }
+    }
+
+    /**
+     * 정렬되고 중복이 없는 targets 가 모두 확정되면 탐색을 멈춘다.
+     */
+    public void search(int source, int[] targets) {
+        start(source);
+        int remaining = targets.length;
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            if (Arrays.binarySearch(targets, vertex) >= 0 && --remaining == 0) {
+                return;
+            }
+            relaxEdges(vertex);
+        }
+    }
+
+    private void start(int source) {
+        for (int i = 0; i < touchedCount; i++) {
+            distances[touched[i]] = UNREACHABLE;
+            previous[touched[i]] = NONE;
+        }
+        touchedCount = 0;
+        heap.clear();
+
+        update(source, 0, NONE);
+    }
+
+    private void update(int vertex, int distance, int from) {
+        if (distances[vertex] == UNREACHABLE) {
+            touched[touchedCount++] = vertex;
+        }
+        distances[vertex] = distance;
+        previous[vertex] = from;
+        heap.push(vertex, distance);
+    }
+
+    private void relaxEdges(int vertex) {
+        int distance = distances[vertex];
+        for (int edge = graph.firstEdge(vertex), last = graph.lastEdge(vertex); edge < last; edge++) {
+            int next = graph.target(edge);
+            int candidate = distance + graph.weight(edge);
+            if (candidate < distances[next]) {
+                update(next, candidate, vertex);
+            }
+        }
+    }
+
+    public int distanceTo(int vertex) {
+        return distances[vertex];
+    }
+
+    public int previousOf(int vertex) {
+        return previous[vertex];
+    }
+
+    /**
+     * 출발 정점부터 vertex 까지의 정점 인덱스. 도달할 수 없으면 빈 배열을 반환한다.
+     */
+    public int[] pathTo(int vertex) {
+        if (distances[vertex] == UNREACHABLE) {
+            return new int[0];
+        }
+
+        int length = 1;
+        for (int v = vertex; previous[v] != NONE; v = previous[v]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        for (int i = length - 1, v = vertex; i >= 0; i--, v = previous[v]) {
+            path[i] = v;
+        }
+        return path;
+    }
+}
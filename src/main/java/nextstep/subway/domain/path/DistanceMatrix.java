@@ -0,0 +1,150 @@
+package nextstep.subway.domain.path;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 모든 정점 쌍의 최단 거리와 다음 정점을 힙 밖(direct buffer)에 저장한 행렬.
+ * 두 행렬 모두 도착 정점 기준 행 우선(target * n + source)으로 저장하며,
+ * hops 는 source 에서 target 으로 갈 때 바로 다음에 지나는 정점이다.
+ * 새 행렬은 이전 행렬을 은퇴시키고 그 버퍼를 물려받을 수 있으므로, 읽는 쪽은 {@link #tryAcquire()} 로 빌려 쓴다.
+ */
+public class DistanceMatrix {
+    public static final int MAX_VERTEX_COUNT = 23_170;
+    private static final int RETIRED = Integer.MIN_VALUE;
+    private static final long RETIRE_TIMEOUT_MILLIS = 1_000;
+
+    private final int vertexCount;
+    private final IntBuffer distances;
+    private final IntBuffer hops;
+    private final AtomicInteger readers = new AtomicInteger();
+    private final CountDownLatch drained = new CountDownLatch(1);
+
+    public DistanceMatrix(CompactGraph graph) {
+        this(graph, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * previous 의 버퍼가 충분히 크면 previous 를 은퇴시키고 새로 할당하지 않고 덮어쓴다.
+     * 버퍼가 작거나 읽는 쪽이 제시간에 돌려주지 않으면 새로 할당하고, 이전 버퍼는 GC 가 회수하게 둔다.
+     * 행은 pool 에서 묶음 단위로 채우고, 다익스트라 상태는 묶음마다 하나씩 만들어 끝나면 버린다.
+     */
+    public DistanceMatrix(CompactGraph graph, DistanceMatrix previous, ForkJoinPool pool) {
+        this.vertexCount = graph.vertexCount();
+        if (vertexCount > MAX_VERTEX_COUNT) {
+            throw new IllegalArgumentException("역이 너무 많아 거리 행렬을 만들 수 없습니다.");
+        }
+        int cells = vertexCount * vertexCount;
+        boolean reusable = previous != null && previous.distances.capacity() >= cells && previous.retire();
+        this.distances = reusable ? previous.distances : allocate(vertexCount);
+        this.hops = reusable ? previous.hops : allocate(vertexCount);
+
+        int batchCount = Math.min(vertexCount, pool.getParallelism() * 4);
+        pool.submit(() -> IntStream.range(0, batchCount).parallel().forEach(batch -> {
+            Dijkstra dijkstra = new Dijkstra(graph);
+            for (int target = batch; target < vertexCount; target += batchCount) {
+                fillRow(dijkstra, target);
+            }
+        })).join();
+    }
+
+    /**
+     * vertexCount 개 역의 거리 행렬이 쓰는 direct buffer 크기. 거리와 경로 두 벌이다.
+     */
+    public static long bytesFor(int vertexCount) {
+        return 2L * vertexCount * vertexCount * Integer.BYTES;
+    }
+
+    /**
+     * 이 행렬의 버퍼를 vertexCount 개 역의 새 행렬이 물려받을 수 있는지 여부. 물려받지 못하면 새로 할당한다.
+     */
+    public boolean canHold(int vertexCount) {
+        return (long) vertexCount * vertexCount <= distances.capacity();
+    }
+
+    public long bytes() {
+        return 2L * distances.capacity() * Integer.BYTES;
+    }
+
+    private static IntBuffer allocate(int vertexCount) {
+        return ByteBuffer.allocateDirect(vertexCount * vertexCount * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    private void fillRow(Dijkstra dijkstra, int target) {
+        dijkstra.search(target);
+        int row = target * vertexCount;
+        for (int source = 0; source < vertexCount; source++) {
+            distances.put(row + source, dijkstra.distanceTo(source));
+            hops.put(row + source, dijkstra.previousOf(source));
+        }
+    }
+
+    /**
+     * 은퇴하지 않았으면 읽기 시작을 기록하고 true 를 돌려준다. true 이면 다 읽은 뒤 {@link #release()} 를 호출해야 한다.
+     */
+    public boolean tryAcquire() {
+        if (readers.getAndIncrement() < 0) {
+            release();
+            return false;
+        }
+        return true;
+    }
+
+    public void release() {
+        if (readers.decrementAndGet() == RETIRED) {
+            drained.countDown();
+        }
+    }
+
+    /**
+     * 새로 빌려 가는 것을 막고, 이미 읽고 있는 쪽이 모두 돌려줄 때까지 정해진 시간만 기다린다. 여러 번 호출해도 된다.
+     *
+     * @return 읽는 쪽이 모두 돌려주어 버퍼를 다시 써도 되면 true
+     */
+    private boolean retire() {
+        int current;
+        do {
+            current = readers.get();
+        } while (current >= 0 && !readers.compareAndSet(current, current + RETIRED));
+        if (readers.get() == RETIRED) {
+            drained.countDown();
+        }
+        try {
+            return drained.await(RETIRE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int distance(int source, int target) {
+        return distances.get(target * vertexCount + source);
+    }
+
+    public int[] path(int source, int target) {
+        if (distance(source, target) == Dijkstra.UNREACHABLE) {
+            return new int[0];
+        }
+
+        int row = target * vertexCount;
+        int length = 1;
+        for (int v = source; v != target; v = hops.get(row + v)) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        path[0] = source;
+        for (int i = 1; i < length; i++) {
+            path[i] = hops.get(row + path[i - 1]);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,95 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/**
+ * 정점 인덱스를 우선순위(long)로 정렬하는 이진 힙. decrease-key 를 위해 정점별 힙 위치를 기억한다.
+ */
+class IntMinHeap {
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final long[] keys;
+    private final int[] positions;
+    private int size;
+
+    IntMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    void push(int vertex, long key) {
+        int position = positions[vertex];
+        keys[vertex] = key;
+        if (position == ABSENT) {
+            heap[size] = vertex;
+            positions[vertex] = size;
+            siftUp(size++);
+            return;
+        }
+        siftUp(position);
+    }
+
+    long peekKey() {
+        return keys[heap[0]];
+    }
+
+    int poll() {
+        int top = heap[0];
+        positions[top] = ABSENT;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int position) {
+        int vertex = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[heap[parent]] <= keys[vertex]) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(vertex, position);
+    }
+
+    private void siftDown(int position) {
+        int vertex = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (keys[vertex] <= keys[heap[child]]) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(vertex, position);
+    }
+
+    private void move(int vertex, int position) {
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+}
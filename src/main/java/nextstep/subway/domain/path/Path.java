@@ -0,0 +1,38 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.network.NetworkStation;
+
+import java.util.List;
+
+public class Path {
+    private List<NetworkStation> stations;
+    private int distance;
+    private int duration;
+    private int transferCount;
+
+    public Path(List<NetworkStation> stations, int distance, int duration, int transferCount) {
+        this.stations = stations;
+        this.distance = distance;
+        this.duration = duration;
+        this.transferCount = transferCount;
+    }
+
+    public List<NetworkStation> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    /**
+     * 구간 소요 시간과 환승 시간을 더한 값
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+}
@@ -0,0 +1,292 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkStation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+public class PathFinder {
+    private final CompactGraph graph;
+    private final TransitGraph transitGraph;
+    private final NetworkStation[] stations;
+    private final DistanceMatrix distanceMatrix;
+    private final ContractionHierarchy contractionHierarchy;
+    private final Queue<Dijkstra> dijkstras;
+
+    public PathFinder(Network network) {
+        this(network, 0, 0);
+    }
+
+    public PathFinder(Network network, int allPairsLimit) {
+        this(network, allPairsLimit, 0);
+    }
+
+    /**
+     * @param allPairsLimit 역 수가 이 값 이하이면 모든 역 쌍의 거리 행렬을 미리 계산한다.
+     * @param transferPenalty 환승할 때마다 소요 시간에 더하는 값
+     */
+    public PathFinder(Network network, int allPairsLimit, int transferPenalty) {
+        List<NetworkSection> sections = network.getSections();
+
+        long[] stationIds = sections.stream()
+                .flatMapToLong(section -> LongStream.of(section.getUpStationId(), section.getDownStationId()))
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int[] upIndexes = new int[sections.size()];
+        int[] downIndexes = new int[sections.size()];
+        int[] distances = new int[sections.size()];
+        int[] durations = new int[sections.size()];
+        int[] lineIndexes = new int[sections.size()];
+        Map<Long, Integer> lines = new HashMap<>();
+        for (int i = 0; i < sections.size(); i++) {
+            NetworkSection section = sections.get(i);
+            upIndexes[i] = Arrays.binarySearch(stationIds, section.getUpStationId());
+            downIndexes[i] = Arrays.binarySearch(stationIds, section.getDownStationId());
+            distances[i] = section.getDistance();
+            durations[i] = section.getDuration();
+            lineIndexes[i] = lines.computeIfAbsent(section.getLineId(), lineId -> lines.size());
+        }
+
+        this.stations = new NetworkStation[stationIds.length];
+        for (NetworkStation station : network.getStations()) {
+            int index = Arrays.binarySearch(stationIds, station.getId());
+            if (index >= 0) {
+                stations[index] = station;
+            }
+        }
+
+        this.graph = new CompactGraph(stationIds, upIndexes, downIndexes, distances, durations, lineIndexes);
+        this.transitGraph = new TransitGraph(graph, transferPenalty);
+        this.distanceMatrix = canBuildDistanceMatrix(allPairsLimit) ? new DistanceMatrix(graph) : null;
+        this.contractionHierarchy = null;
+        this.dijkstras = new ConcurrentLinkedQueue<>();
+    }
+
+    private PathFinder(PathFinder pathFinder, DistanceMatrix distanceMatrix, ContractionHierarchy contractionHierarchy) {
+        this.graph = pathFinder.graph;
+        this.transitGraph = pathFinder.transitGraph;
+        this.stations = pathFinder.stations;
+        this.distanceMatrix = distanceMatrix;
+        this.contractionHierarchy = contractionHierarchy;
+        this.dijkstras = pathFinder.dijkstras;
+    }
+
+    /**
+     * 같은 노선도에 contraction hierarchy 를 더한 PathFinder 를 만든다. 큰 노선도에서는 오래 걸리므로 백그라운드에서 호출한다.
+     */
+    public PathFinder withContractionHierarchy() {
+        return new PathFinder(this, distanceMatrix, new ContractionHierarchy(graph));
+    }
+
+    /**
+     * 같은 노선도에 거리 행렬을 더한 PathFinder 를 만든다. previous 는 은퇴시키고 버퍼를 물려받으므로,
+     * previous 를 들고 있던 PathFinder 는 그 뒤로 행렬 없이 탐색한다. 행은 pool 에서 채운다. 백그라운드에서 호출한다.
+     */
+    public PathFinder withDistanceMatrix(DistanceMatrix previous, ForkJoinPool pool) {
+        return new PathFinder(this, new DistanceMatrix(graph, previous, pool), contractionHierarchy);
+    }
+
+    public boolean canBuildDistanceMatrix(int allPairsLimit) {
+        return stations.length <= Math.min(allPairsLimit, DistanceMatrix.MAX_VERTEX_COUNT);
+    }
+
+    /**
+     * previous 의 버퍼를 물려받지 못할 때는 GC 가 회수하기 전까지 두 행렬이 함께 남으므로 그 크기도 더한다.
+     *
+     * @return 이 노선도의 거리 행렬을 만들 때 새로 할당해야 하는 direct buffer 크기
+     */
+    public long distanceMatrixBytes(DistanceMatrix previous) {
+        long bytes = DistanceMatrix.bytesFor(stations.length);
+        if (previous != null && !previous.canHold(stations.length)) {
+            bytes += previous.bytes();
+        }
+        return bytes;
+    }
+
+    public DistanceMatrix getDistanceMatrix() {
+        return distanceMatrix;
+    }
+
+    /**
+     * 출발역 목록과 도착역 목록 사이의 최단 거리 행렬. 도달할 수 없으면 {@link Dijkstra#UNREACHABLE} 이다.
+     * 구간은 양방향이므로 중복을 뺀 역이 적은 쪽에서 한 번씩만 탐색하고, 그 탐색들은 pool 에서 병렬로 수행한다.
+     */
+    public int[][] findDistances(List<Long> sourceIds, List<Long> targetIds, ForkJoinPool pool) {
+        int[] sources = sourceIds.stream().mapToInt(this::findIndex).toArray();
+        int[] targets = targetIds.stream().mapToInt(this::findIndex).toArray();
+        int[][] distances = new int[sources.length][targets.length];
+        if (distanceMatrix != null && distanceMatrix.tryAcquire()) {
+            try {
+                for (int i = 0; i < sources.length; i++) {
+                    for (int j = 0; j < targets.length; j++) {
+                        distances[i][j] = distanceMatrix.distance(sources[i], targets[j]);
+                    }
+                }
+                return distances;
+            } finally {
+                distanceMatrix.release();
+            }
+        }
+
+        int[] distinctSources = IntStream.of(sources).sorted().distinct().toArray();
+        int[] distinctTargets = IntStream.of(targets).sorted().distinct().toArray();
+        boolean fromTargets = distinctTargets.length < distinctSources.length;
+        int[] origins = fromTargets ? distinctTargets : distinctSources;
+        int[] destinations = fromTargets ? distinctSources : distinctTargets;
+        int[][] rows = searchRows(origins, destinations, pool);
+
+        for (int i = 0; i < sources.length; i++) {
+            int source = Arrays.binarySearch(distinctSources, sources[i]);
+            for (int j = 0; j < targets.length; j++) {
+                int target = Arrays.binarySearch(distinctTargets, targets[j]);
+                distances[i][j] = fromTargets ? rows[target][source] : rows[source][target];
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * 출발 정점들을 작업 묶음으로 나누고, 묶음마다 다익스트라 하나를 재사용한다.
+     */
+    private int[][] searchRows(int[] origins, int[] destinations, ForkJoinPool pool) {
+        int[][] rows = new int[origins.length][destinations.length];
+        int batchCount = Math.min(origins.length, pool.getParallelism() * 4);
+        pool.submit(() -> IntStream.range(0, batchCount).parallel().forEach(batch -> {
+            Dijkstra dijkstra = new Dijkstra(graph);
+            for (int i = batch; i < origins.length; i += batchCount) {
+                dijkstra.search(origins[i], destinations);
+                for (int j = 0; j < destinations.length; j++) {
+                    rows[i][j] = dijkstra.distanceTo(destinations[j]);
+                }
+            }
+        })).join();
+        return rows;
+    }
+
+    public boolean hasDistanceMatrix() {
+        return distanceMatrix != null;
+    }
+
+    public boolean hasContractionHierarchy() {
+        return contractionHierarchy != null;
+    }
+
+    public Path findPath(Long sourceId, Long targetId) {
+        return findPath(sourceId, targetId, PathType.DISTANCE);
+    }
+
+    public Path findPath(Long sourceId, Long targetId, PathType type) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+
+        int source = findIndex(sourceId);
+        int target = findIndex(targetId);
+        if (type != PathType.DISTANCE) {
+            return findTransitPath(source, target, type);
+        }
+        if (distanceMatrix != null && distanceMatrix.tryAcquire()) {
+            try {
+                return createPath(distanceMatrix.path(source, target));
+            } finally {
+                distanceMatrix.release();
+            }
+        }
+        if (contractionHierarchy != null) {
+            return createPath(contractionHierarchy.path(source, target));
+        }
+
+        Dijkstra dijkstra = dijkstras.poll();
+        if (dijkstra == null) {
+            dijkstra = new Dijkstra(graph);
+        }
+        try {
+            dijkstra.search(source, target);
+            return createPath(dijkstra.pathTo(target));
+        } finally {
+            dijkstras.offer(dijkstra);
+        }
+    }
+
+    /**
+     * 역 사이에 여러 노선이 지나면 거리가 가장 짧은 구간을, 거리가 같으면 타고 있던 노선의 구간을 탄 것으로 본다.
+     */
+    private Path createPath(int[] indexes) {
+        if (indexes.length == 0) {
+            throw unreachable();
+        }
+
+        List<NetworkStation> path = new ArrayList<>();
+        path.add(stations[indexes[0]]);
+        int distance = 0;
+        int duration = 0;
+        int transferCount = 0;
+        int line = Dijkstra.NONE;
+        for (int i = 1; i < indexes.length; i++) {
+            int edge = graph.edgeBetween(indexes[i - 1], indexes[i], line);
+            if (line != Dijkstra.NONE && graph.line(edge) != line) {
+                transferCount++;
+            }
+            line = graph.line(edge);
+            distance += graph.weight(edge);
+            duration += graph.duration(edge);
+            path.add(stations[indexes[i]]);
+        }
+        return new Path(path, distance, duration + transferCount * transitGraph.transferPenalty(), transferCount);
+    }
+
+    private Path findTransitPath(int source, int target, PathType type) {
+        TransitSearch search = new TransitSearch(transitGraph);
+        int platform = search.search(source, target, type);
+        if (platform == TransitSearch.NONE) {
+            throw unreachable();
+        }
+
+        List<NetworkStation> path = new ArrayList<>();
+        path.add(stations[target]);
+        int distance = 0;
+        int duration = 0;
+        int transferCount = 0;
+        for (int edge = search.previousEdgeOf(platform); edge != TransitSearch.NONE; edge = search.previousEdgeOf(platform)) {
+            int ride = transitGraph.ride(edge);
+            if (ride == TransitGraph.TRANSFER) {
+                transferCount++;
+                duration += transitGraph.transferPenalty();
+            } else {
+                distance += graph.weight(ride);
+                duration += graph.duration(ride);
+            }
+            platform = search.previousPlatformOf(platform);
+            if (ride != TransitGraph.TRANSFER) {
+                path.add(stations[transitGraph.vertexOf(platform)]);
+            }
+        }
+        Collections.reverse(path);
+        return new Path(path, distance, duration, transferCount);
+    }
+
+    private IllegalArgumentException unreachable() {
+        return new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+
+    private int findIndex(Long stationId) {
+        int index = graph.indexOf(stationId);
+        if (index < 0) {
+            throw new IllegalArgumentException("구간에 등록되지 않은 역입니다.");
+        }
+        return index;
+    }
+}
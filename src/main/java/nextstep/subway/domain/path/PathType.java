@@ -0,0 +1,10 @@
+package nextstep.subway.domain.path;
+
+public enum PathType {
+    /** 최단 거리 */
+    DISTANCE,
+    /** 최소 소요 시간(환승 시간 포함) */
+    DURATION,
+    /** 최소 환승 */
+    TRANSFER
+}
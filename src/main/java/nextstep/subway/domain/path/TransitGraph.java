@@ -0,0 +1,164 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/**
+ * 역을 노선별 승강장으로 나눈 그래프. 같은 노선의 승강장은 구간으로, 같은 역의 승강장끼리는 환승 간선으로 잇는다.
+ * 간선 비용은 (주 기준 << 32 | 보조 기준) 으로 묶어 한 번의 다익스트라로 사전식 최소 경로를 찾는다.
+ */
+public class TransitGraph {
+    public static final int TRANSFER = -1;
+
+    private final CompactGraph graph;
+    private final int transferPenalty;
+    private final int[] platformOffsets;
+    private final int[] platformLines;
+    private final int[] platformVertices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] rides;
+    private final long[] durationCosts;
+    private final long[] transferCosts;
+
+    public TransitGraph(CompactGraph graph, int transferPenalty) {
+        this.graph = graph;
+        this.transferPenalty = transferPenalty;
+
+        int vertexCount = graph.vertexCount();
+        this.platformOffsets = new int[vertexCount + 1];
+        int[] lines = new int[graph.edgeCount() * 2];
+        int platformCount = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            platformOffsets[v] = platformCount;
+            for (int edge = graph.firstEdge(v); edge < graph.lastEdge(v); edge++) {
+                if (indexOf(lines, platformOffsets[v], platformCount, graph.line(edge)) < 0) {
+                    lines[platformCount++] = graph.line(edge);
+                }
+            }
+        }
+        platformOffsets[vertexCount] = platformCount;
+        this.platformLines = Arrays.copyOf(lines, platformCount);
+        this.platformVertices = new int[platformCount];
+
+        int edgeCount = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            int platforms = platformOffsets[v + 1] - platformOffsets[v];
+            edgeCount += graph.lastEdge(v) - graph.firstEdge(v) + platforms * (platforms - 1);
+        }
+        this.offsets = new int[platformCount + 1];
+        this.targets = new int[edgeCount];
+        this.rides = new int[edgeCount];
+        this.durationCosts = new long[edgeCount];
+        this.transferCosts = new long[edgeCount];
+
+        int cursor = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            for (int platform = platformOffsets[v]; platform < platformOffsets[v + 1]; platform++) {
+                platformVertices[platform] = v;
+                offsets[platform] = cursor;
+                cursor = addRides(platform, v, cursor);
+                cursor = addTransfers(platform, v, cursor);
+            }
+        }
+        offsets[platformCount] = cursor;
+    }
+
+    private int addRides(int platform, int vertex, int cursor) {
+        for (int edge = graph.firstEdge(vertex); edge < graph.lastEdge(vertex); edge++) {
+            if (graph.line(edge) != platformLines[platform]) {
+                continue;
+            }
+            targets[cursor] = platformOf(graph.target(edge), graph.line(edge));
+            rides[cursor] = edge;
+            durationCosts[cursor] = pack(graph.duration(edge), graph.weight(edge));
+            transferCosts[cursor] = pack(0, graph.duration(edge));
+            cursor++;
+        }
+        return cursor;
+    }
+
+    private int addTransfers(int platform, int vertex, int cursor) {
+        for (int other = platformOffsets[vertex]; other < platformOffsets[vertex + 1]; other++) {
+            if (other == platform) {
+                continue;
+            }
+            targets[cursor] = other;
+            rides[cursor] = TRANSFER;
+            durationCosts[cursor] = pack(transferPenalty, 0);
+            transferCosts[cursor] = pack(1, transferPenalty);
+            cursor++;
+        }
+        return cursor;
+    }
+
+    private int platformOf(int vertex, int line) {
+        return indexOf(platformLines, platformOffsets[vertex], platformOffsets[vertex + 1], line);
+    }
+
+    public CompactGraph getGraph() {
+        return graph;
+    }
+
+    public int transferPenalty() {
+        return transferPenalty;
+    }
+
+    public int platformCount() {
+        return platformVertices.length;
+    }
+
+    public int firstPlatform(int vertex) {
+        return platformOffsets[vertex];
+    }
+
+    public int lastPlatform(int vertex) {
+        return platformOffsets[vertex + 1];
+    }
+
+    public int vertexOf(int platform) {
+        return platformVertices[platform];
+    }
+
+    public int firstEdge(int platform) {
+        return offsets[platform];
+    }
+
+    public int lastEdge(int platform) {
+        return offsets[platform + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * 간선이 지나는 {@link CompactGraph} 의 구간 간선. 환승 간선이면 {@link #TRANSFER} 를 반환한다.
+     */
+    public int ride(int edge) {
+        return rides[edge];
+    }
+
+    public long cost(int edge, PathType type) {
+        switch (type) {
+            case DURATION:
+                return durationCosts[edge];
+            case TRANSFER:
+                return transferCosts[edge];
+            default:
+                throw new IllegalArgumentException("승강장 그래프로 탐색하지 않는 경로 기준입니다. type=" + type);
+        }
+    }
+
+    private static int indexOf(int[] values, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long pack(int primary, int secondary) {
+        return ((long) primary << 32) + secondary;
+    }
+}
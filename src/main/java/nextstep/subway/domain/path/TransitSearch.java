@@ -0,0 +1,71 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+/**
+ * {@link TransitGraph} 위에서 출발역의 모든 승강장을 시작점으로 삼는 다익스트라 탐색.
+ * 도착역의 승강장 중 하나가 확정되면 멈춘다. 한 인스턴스는 하나의 스레드에서만 사용한다.
+ */
+public class TransitSearch {
+    public static final int NONE = -1;
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final TransitGraph graph;
+    private final long[] costs;
+    private final int[] previousEdges;
+    private final int[] previousPlatforms;
+    private final IntMinHeap heap;
+
+    public TransitSearch(TransitGraph graph) {
+        this.graph = graph;
+        this.costs = new long[graph.platformCount()];
+        this.previousEdges = new int[graph.platformCount()];
+        this.previousPlatforms = new int[graph.platformCount()];
+        this.heap = new IntMinHeap(graph.platformCount());
+    }
+
+    /**
+     * @return 처음 확정된 도착역의 승강장. 도달할 수 없으면 {@link #NONE}
+     */
+    public int search(int sourceVertex, int targetVertex, PathType type) {
+        Arrays.fill(costs, UNREACHABLE);
+        Arrays.fill(previousEdges, NONE);
+        Arrays.fill(previousPlatforms, NONE);
+        heap.clear();
+
+        for (int platform = graph.firstPlatform(sourceVertex); platform < graph.lastPlatform(sourceVertex); platform++) {
+            costs[platform] = 0;
+            heap.push(platform, 0);
+        }
+        while (!heap.isEmpty()) {
+            int platform = heap.poll();
+            if (graph.vertexOf(platform) == targetVertex) {
+                return platform;
+            }
+            relaxEdges(platform, type);
+        }
+        return NONE;
+    }
+
+    private void relaxEdges(int platform, PathType type) {
+        long cost = costs[platform];
+        for (int edge = graph.firstEdge(platform), last = graph.lastEdge(platform); edge < last; edge++) {
+            int next = graph.target(edge);
+            long candidate = cost + graph.cost(edge, type);
+            if (candidate < costs[next]) {
+                costs[next] = candidate;
+                previousEdges[next] = edge;
+                previousPlatforms[next] = platform;
+                heap.push(next, candidate);
+            }
+        }
+    }
+
+    public int previousEdgeOf(int platform) {
+        return previousEdges[platform];
+    }
+
+    public int previousPlatformOf(int platform) {
+        return previousPlatforms[platform];
+    }
+}
@@ -0,0 +1,118 @@
+package nextstep.subway.support;
+
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkStation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 격자 위에 역을 배치하고, 환승 거점에서 출발하는 격자형/방사형 노선을 만든다.
+ * 생성된 {@link Network} 의 id 는 1 부터 시작하는 임시 값이다.
+ */
+public class NetworkGenerator {
+    private static final int[][] GRID_DIRECTIONS = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+    private static final int[][] RADIAL_DIRECTIONS = {{1, 1}, {1, -1}, {-1, 1}, {-1, -1}, {1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+    private static final double HUB_RATIO = 0.01;
+
+    private final int stationCount;
+    private final int lineCount;
+    private final int sectionsPerLine;
+    private final Random random;
+    private final int width;
+    private final int height;
+
+    public NetworkGenerator(int stationCount, int lineCount, int sectionsPerLine, long seed) {
+        if (stationCount < 2 || lineCount < 1 || sectionsPerLine < 1) {
+            throw new IllegalArgumentException("역은 2개, 노선과 구간은 1개 이상이어야 합니다.");
+        }
+        this.stationCount = stationCount;
+        this.lineCount = lineCount;
+        this.sectionsPerLine = sectionsPerLine;
+        this.random = new Random(seed);
+        this.width = (int) Math.ceil(Math.sqrt(stationCount));
+        this.height = (stationCount + width - 1) / width;
+    }
+
+    public Network generate() {
+        List<NetworkStation> stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            stations.add(new NetworkStation(i + 1, "역" + (i + 1), null, null));
+        }
+
+        int[] hubs = createHubs();
+        List<NetworkLine> lines = new ArrayList<>(lineCount);
+        List<NetworkSection> sections = new ArrayList<>(lineCount * sectionsPerLine);
+        for (int i = 0; i < lineCount; i++) {
+            long lineId = i + 1;
+            boolean radial = i % 2 == 1;
+            lines.add(new NetworkLine(lineId, (radial ? "방사" : "격자") + lineId + "호선", color(i), null, null));
+            int start = hubs[random.nextInt(hubs.length)];
+            addSections(sections, lineId, start, radial ? RADIAL_DIRECTIONS : GRID_DIRECTIONS, radial);
+        }
+        return new Network(stations, lines, sections);
+    }
+
+    private int[] createHubs() {
+        int hubCount = Math.max(1, (int) (stationCount * HUB_RATIO));
+        int[] hubs = new int[hubCount];
+        hubs[0] = index(width / 2, height / 2);
+        for (int i = 1; i < hubCount; i++) {
+            hubs[i] = random.nextInt(stationCount);
+        }
+        return hubs;
+    }
+
+    /**
+     * 방사형 노선은 처음 정한 방향을 유지하고, 격자형 노선은 가끔 방향을 꺾는다.
+     * 같은 노선이 한 역을 두 번 지나지 않도록, 막히면 그 자리에서 노선을 끝낸다.
+     */
+    private void addSections(List<NetworkSection> sections, long lineId, int start, int[][] directions, boolean radial) {
+        boolean[] visited = new boolean[stationCount];
+        visited[start] = true;
+        int current = start;
+        int[] direction = directions[random.nextInt(directions.length)];
+
+        for (int i = 0; i < sectionsPerLine; i++) {
+            if (!radial && random.nextInt(4) == 0) {
+                direction = directions[random.nextInt(directions.length)];
+            }
+            int next = step(current, direction, visited);
+            if (next < 0) {
+                direction = directions[random.nextInt(directions.length)];
+                next = step(current, direction, visited);
+            }
+            if (next < 0) {
+                return;
+            }
+            sections.add(new NetworkSection(lineId, current + 1, next + 1, 1 + random.nextInt(10), 1 + random.nextInt(5)));
+            visited[next] = true;
+            current = next;
+        }
+    }
+
+    private int step(int current, int[] direction, boolean[] visited) {
+        int x = current % width + direction[0];
+        int y = current / width + direction[1];
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        int next = index(x, y);
+        if (next >= stationCount || visited[next]) {
+            return -1;
+        }
+        return next;
+    }
+
+    private int index(int x, int y) {
+        return Math.min(y * width + x, stationCount - 1);
+    }
+
+    private String color(int index) {
+        String[] colors = {"bg-red-600", "bg-green-600", "bg-blue-600", "bg-yellow-600", "bg-purple-600", "bg-orange-600"};
+        return colors[index % colors.length];
+    }
+}
@@ -0,0 +1,142 @@
+package nextstep.subway.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 끝난 추적을 큐에 모았다가 OTLP/HTTP JSON 형식(/v1/traces)으로 묶어 보낸다.
+ * 큐가 가득 차면 요청 스레드를 막지 않고 버린다. endpoint 가 비어 있으면 아무것도 보내지 않는다.
+ */
+public class OtlpSpanExporter {
+    private static final Logger log = LoggerFactory.getLogger(OtlpSpanExporter.class);
+    private static final int SPAN_KIND_INTERNAL = 1;
+    private static final int SPAN_KIND_SERVER = 2;
+
+    private final String endpoint;
+    private final String serviceName;
+    private final int batchSize;
+    private final BlockingQueue<Trace> queue;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+
+    public OtlpSpanExporter(String endpoint, String serviceName, int queueSize, int batchSize, long flushIntervalMillis,
+                            RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this.endpoint = endpoint;
+        this.serviceName = serviceName;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        if (!isEnabled()) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "otlp-span-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return endpoint != null && !endpoint.isEmpty();
+    }
+
+    public void export(Trace trace) {
+        if (isEnabled() && !queue.offer(trace)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public void flush() {
+        List<Trace> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            send(batch);
+            batch.clear();
+        }
+    }
+
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            flush();
+        }
+    }
+
+    private void send(List<Trace> traces) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = objectMapper.writeValueAsBytes(toResourceSpans(traces));
+            restTemplate.postForEntity(endpoint, new HttpEntity<>(body, headers), Void.class);
+        } catch (RestClientException | JsonProcessingException e) {
+            log.warn("추적 구간을 보내지 못했습니다. endpoint={}, traces={}", endpoint, traces.size(), e);
+        }
+    }
+
+    /**
+     * OTLP JSON 은 id 를 16진수 문자열로, 64비트 정수를 10진수 문자열로 쓴다.
+     */
+    Map<String, Object> toResourceSpans(List<Trace> traces) {
+        List<Map<String, Object>> spans = new ArrayList<>();
+        for (Trace trace : traces) {
+            for (Span span : trace.getSpans()) {
+                Map<String, Object> otlpSpan = new LinkedHashMap<>();
+                otlpSpan.put("traceId", trace.getTraceId());
+                otlpSpan.put("spanId", span.getSpanId());
+                if (span.getParentSpanId() != null) {
+                    otlpSpan.put("parentSpanId", span.getParentSpanId());
+                }
+                otlpSpan.put("name", span.getName());
+                otlpSpan.put("kind", span == trace.getRoot() ? SPAN_KIND_SERVER : SPAN_KIND_INTERNAL);
+                otlpSpan.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+                otlpSpan.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+                otlpSpan.put("attributes", Collections.singletonList(attribute("subway.phase", span.getKind())));
+                spans.add(otlpSpan);
+            }
+        }
+
+        Map<String, Object> scopeSpans = new LinkedHashMap<>();
+        scopeSpans.put("scope", Collections.singletonMap("name", "nextstep.subway"));
+        scopeSpans.put("spans", spans);
+
+        Map<String, Object> resourceSpans = new LinkedHashMap<>();
+        resourceSpans.put("resource", Collections.singletonMap("attributes",
+                Collections.singletonList(attribute("service.name", serviceName))));
+        resourceSpans.put("scopeSpans", Collections.singletonList(scopeSpans));
+        return Collections.singletonMap("resourceSpans", Collections.singletonList(resourceSpans));
+    }
+
+    private Map<String, Object> attribute(String key, String value) {
+        Map<String, Object> attribute = new LinkedHashMap<>();
+        attribute.put("key", key);
+        attribute.put("value", Collections.singletonMap("stringValue", value));
+        return attribute;
+    }
+}
@@ -0,0 +1,43 @@
+package nextstep.subway.support;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+
+/**
+ * 현재 스레드에서 실행한 SQL 문과 DB 에서 읽어 만든 엔티티 수를 센다.
+ * 하이버네이트 세션 팩토리 전체에서 하나의 인스턴스를 공유하므로 상태는 스레드 로컬에만 둔다.
+ */
+public class QueryCountingInterceptor extends EmptyInterceptor implements StatementInspector {
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+    private static final int STATEMENTS = 0;
+    private static final int ENTITY_LOADS = 1;
+
+    public static void reset() {
+        long[] counts = COUNTS.get();
+        counts[STATEMENTS] = 0;
+        counts[ENTITY_LOADS] = 0;
+    }
+
+    public static long statementCount() {
+        return COUNTS.get()[STATEMENTS];
+    }
+
+    public static long entityLoadCount() {
+        return COUNTS.get()[ENTITY_LOADS];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNTS.get()[STATEMENTS]++;
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+        COUNTS.get()[ENTITY_LOADS]++;
+        return false;
+    }
+}
@@ -0,0 +1,103 @@
+package nextstep.subway.support;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Section;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkStation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * generate 프로필에서 애플리케이션이 뜰 때 {@link NetworkGenerator} 로 만든 노선도를 DB 에 채운다.
+ */
+@Profile("generate")
+@Component
+public class SampleDataLoader implements CommandLineRunner {
+    private static final Logger log = LoggerFactory.getLogger(SampleDataLoader.class);
+    private static final int FLUSH_SIZE = 1_000;
+
+    private StationRepository stationRepository;
+    private LineRepository lineRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private NetworkGenerator networkGenerator;
+
+    public SampleDataLoader(StationRepository stationRepository, LineRepository lineRepository,
+                            EntityManager entityManager, TransactionTemplate transactionTemplate,
+                            @Value("${subway.generator.stations}") int stationCount,
+                            @Value("${subway.generator.lines}") int lineCount,
+                            @Value("${subway.generator.sections-per-line}") int sectionsPerLine,
+                            @Value("${subway.generator.seed}") long seed) {
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.networkGenerator = new NetworkGenerator(stationCount, lineCount, sectionsPerLine, seed);
+    }
+
+    @Override
+    public void run(String... args) {
+        if (stationRepository.count() > 0) {
+            log.info("이미 데이터가 있어 노선도를 생성하지 않습니다.");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Network network = networkGenerator.generate();
+        Map<Long, Long> stationIds = transactionTemplate.execute(status -> saveStations(network.getStations()));
+        transactionTemplate.executeWithoutResult(status -> saveLines(network, stationIds));
+        log.info("노선도 생성 완료. stations={}, lines={}, sections={}, elapsed={}ms",
+                network.getStations().size(), network.getLines().size(), network.getSections().size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private Map<Long, Long> saveStations(List<NetworkStation> stations) {
+        Map<Long, Long> stationIds = new HashMap<>();
+        for (int i = 0; i < stations.size(); i++) {
+            NetworkStation generated = stations.get(i);
+            Station station = stationRepository.save(new Station(generated.getName()));
+            stationIds.put(generated.getId(), station.getId());
+            flushPeriodically(i);
+        }
+        return stationIds;
+    }
+
+    private void saveLines(Network network, Map<Long, Long> stationIds) {
+        Map<Long, Line> lines = new HashMap<>();
+        for (NetworkLine generated : network.getLines()) {
+            lines.put(generated.getId(), lineRepository.save(new Line(generated.getName(), generated.getColor())));
+        }
+
+        List<NetworkSection> sections = network.getSections();
+        for (int i = 0; i < sections.size(); i++) {
+            NetworkSection generated = sections.get(i);
+            Line line = entityManager.getReference(Line.class, lines.get(generated.getLineId()).getId());
+            Station upStation = entityManager.getReference(Station.class, stationIds.get(generated.getUpStationId()));
+            Station downStation = entityManager.getReference(Station.class, stationIds.get(generated.getDownStationId()));
+            entityManager.persist(new Section(line, upStation, downStation, generated.getDistance(), generated.getDuration()));
+            flushPeriodically(i);
+        }
+    }
+
+    private void flushPeriodically(int index) {
+        if ((index + 1) % FLUSH_SIZE == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+}
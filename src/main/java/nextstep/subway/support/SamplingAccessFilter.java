@@ -0,0 +1,38 @@
+package nextstep.subway.support;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * rate 비율의 요청만 통과시킨다. 오류 응답(5xx)은 항상 통과시킨다.
+ */
+public class SamplingAccessFilter extends Filter<IAccessEvent> {
+    private double rate;
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    @Override
+    public void start() {
+        if (rate < 0 || rate > 1) {
+            addError("rate 는 0 이상 1 이하여야 합니다: " + rate);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (event.getStatusCode() >= 500) {
+            return FilterReply.NEUTRAL;
+        }
+        if (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
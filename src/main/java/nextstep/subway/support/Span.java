@@ -0,0 +1,77 @@
+package nextstep.subway.support;
+
+/**
+ * 요청 하나 안에서 측정한 구간. kind 는 요청 시간을 나눠 보는 단계(controller, service, repository, serialization)이다.
+ */
+public class Span {
+    public static final String HTTP = "http";
+    public static final String CONTROLLER = "controller";
+    public static final String SERVICE = "service";
+    public static final String REPOSITORY = "repository";
+    public static final String SERIALIZATION = "serialization";
+
+    private final String spanId;
+    private final String parentSpanId;
+    private final String kind;
+    private String name;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private long durationNanos = -1;
+    private long childNanos;
+
+    Span(String spanId, String parentSpanId, String kind, String name) {
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.kind = kind;
+        this.name = name;
+        this.startEpochNanos = System.currentTimeMillis() * 1_000_000L;
+        this.startNanoTime = System.nanoTime();
+    }
+
+    void end() {
+        durationNanos = System.nanoTime() - startNanoTime;
+    }
+
+    void addChild(Span child) {
+        childNanos += child.durationNanos;
+    }
+
+    public void rename(String name) {
+        this.name = name;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    public long getEndEpochNanos() {
+        return startEpochNanos + durationNanos;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * 하위 구간에서 쓴 시간을 뺀, 이 구간에서만 쓴 시간.
+     */
+    public long getSelfNanos() {
+        return durationNanos - childNanos;
+    }
+}
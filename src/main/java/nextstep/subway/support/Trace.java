@@ -0,0 +1,84 @@
+package nextstep.subway.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 스레드 하나에서 열고 닫은 구간들. 구간은 항상 연 순서의 역순으로 닫힌다고 가정한다.
+ */
+public class Trace {
+    private final String traceId;
+    private final Span root;
+    private final List<Span> spans = new ArrayList<>();
+    private final Deque<Span> open = new ArrayDeque<>();
+
+    Trace(String traceId, String parentSpanId, String name) {
+        this.traceId = traceId == null ? randomHex(2) : traceId;
+        this.root = new Span(randomHex(1), parentSpanId, Span.HTTP, name);
+        spans.add(root);
+        open.push(root);
+    }
+
+    Span open(String kind, String name) {
+        Span span = new Span(randomHex(1), open.peek().getSpanId(), kind, name);
+        spans.add(span);
+        open.push(span);
+        return span;
+    }
+
+    void close(Span span) {
+        span.end();
+        open.remove(span);
+        Span parent = open.peek();
+        if (parent != null) {
+            parent.addChild(span);
+        }
+    }
+
+    void finish() {
+        while (!open.isEmpty()) {
+            close(open.peek());
+        }
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public Span getRoot() {
+        return root;
+    }
+
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+
+    /**
+     * 단계별로 그 단계에서만 쓴 시간을 더한다. 모든 단계의 합은 요청 전체 시간과 같다.
+     */
+    public Map<String, Long> selfNanosByKind() {
+        Map<String, Long> breakdown = new LinkedHashMap<>();
+        for (Span span : spans) {
+            breakdown.merge(span.getKind(), span.getSelfNanos(), Long::sum);
+        }
+        return breakdown;
+    }
+
+    private static String randomHex(int longs) {
+        StringBuilder hex = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            String value = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            for (int pad = value.length(); pad < 16; pad++) {
+                hex.append('0');
+            }
+            hex.append(value);
+        }
+        return hex.toString();
+    }
+}
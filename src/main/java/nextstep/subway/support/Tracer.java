@@ -0,0 +1,45 @@
+package nextstep.subway.support;
+
+/**
+ * 현재 스레드의 {@link Trace} 에 구간을 열고 닫는다. 추적 중이 아니면 아무 일도 하지 않는다.
+ */
+public final class Tracer {
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private Tracer() {
+    }
+
+    public static Trace start(String traceId, String parentSpanId, String name) {
+        Trace trace = new Trace(traceId, parentSpanId, name);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    public static Span startSpan(String kind, String name) {
+        Trace trace = CURRENT.get();
+        return trace == null ? null : trace.open(kind, name);
+    }
+
+    public static void end(Span span) {
+        Trace trace = CURRENT.get();
+        if (trace != null && span != null) {
+            trace.close(span);
+        }
+    }
+
+    /**
+     * 열려 있는 구간을 모두 닫고 현재 스레드에서 떼어 낸다.
+     */
+    public static Trace finish() {
+        Trace trace = CURRENT.get();
+        CURRENT.remove();
+        if (trace != null) {
+            trace.finish();
+        }
+        return trace;
+    }
+}
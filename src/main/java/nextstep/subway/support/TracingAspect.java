@@ -0,0 +1,41 @@
+package nextstep.subway.support;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * 컨트롤러, 서비스, 리포지토리 메서드 호출을 구간으로 남긴다. 추적 중이 아닌 요청은 바로 넘긴다.
+ */
+@Aspect
+public class TracingAspect {
+    @Around("@within(org.springframework.web.bind.annotation.RestController)"
+            + " || @within(org.springframework.stereotype.Controller)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Span.CONTROLLER, joinPoint);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Span.SERVICE, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(Span.REPOSITORY, joinPoint);
+    }
+
+    private Object trace(String kind, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!Tracer.isActive()) {
+            return joinPoint.proceed();
+        }
+
+        Span span = Tracer.startSpan(kind, joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Tracer.end(span);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package nextstep.subway.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 응답 본문을 JSON 으로 쓰는 시간을 serialization 구간으로 남긴다.
+ */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Span span = Tracer.startSpan(Span.SERIALIZATION, object.getClass().getSimpleName());
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            Tracer.end(span);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.NetworkExportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+public class ExportController {
+    private NetworkExportService networkExportService;
+
+    public ExportController(NetworkExportService networkExportService) {
+        this.networkExportService = networkExportService;
+    }
+
+    @GetMapping(value = "/exports", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportNetwork() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(networkExportService::export);
+    }
+}
@@ -0,0 +1,31 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.NetworkImportService;
+import nextstep.subway.applicaion.dto.ImportResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+public class ImportController {
+    private static final String TEXT_CSV = "text/csv";
+
+    private NetworkImportService networkImportService;
+
+    public ImportController(NetworkImportService networkImportService) {
+        this.networkImportService = networkImportService;
+    }
+
+    @PostMapping(value = "/imports", consumes = TEXT_CSV)
+    public ResponseEntity<ImportResponse> importNetwork(InputStream body) throws IOException {
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return ResponseEntity.ok().body(networkImportService.importCsv(reader));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package nextstep.subway.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import nextstep.subway.support.Span;
+import nextstep.subway.support.Tracer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 응답을 버전별로 한 번만 직렬화해 두고, 버전으로 만든 ETag 와 함께 응답한다.
+ * If-None-Match 가 ETag 와 같으면 304 응답은 HttpEntityMethodProcessor 가 처리한다.
+ * 버전을 키에 담으므로 쓰기가 일어나면 이전 버전은 다시 읽히지 않고, subway.cache.json.spec 의 크기와 TTL 로 밀려난다.
+ * 크기와 hit/miss/eviction 은 cache.* 메트릭(cache=json)으로 나간다.
+ */
+@Component
+public class JsonResponseCache {
+    public static final String CACHE_NAME = "json";
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private Cache<String, CachedJson> responses;
+    private ObjectMapper objectMapper;
+    private MeterRegistry meterRegistry;
+
+    public JsonResponseCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${subway.cache.json.spec:maximumSize=1000,expireAfterWrite=10m,recordStats}") String spec) {
+        this.responses = Caffeine.from(spec).build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    public ResponseEntity<byte[]> respond(String name, String version, Supplier<?> body) {
+        return respond(name, name, version, body);
+    }
+
+    /**
+     * 같은 name 아래 id 마다 따로 캐시한다. id 는 ETag 에도 들어가고, 메트릭 태그에는 name 만 쓴다.
+     */
+    public ResponseEntity<byte[]> respond(String name, Object id, String version, Supplier<?> body) {
+        boolean[] loaded = new boolean[1];
+        CachedJson cached = responses.get(id + "-" + version, key -> {
+            loaded[0] = true;
+            return new CachedJson(version, serialize(body.get()));
+        });
+        meterRegistry.counter("subway.json.cache.gets", "name", name, "result", loaded[0] ? "miss" : "hit").increment();
+
+        return ResponseEntity.ok()
+                .eTag(id + "-" + instanceId + "-" + cached.version)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.bytes);
+    }
+
+    private byte[] serialize(Object body) {
+        Span span = Tracer.startSpan(Span.SERIALIZATION, "JsonResponseCache.serialize");
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            Tracer.end(span);
+        }
+    }
+
+    private static class CachedJson {
+        private final String version;
+        private final byte[] bytes;
+
+        private CachedJson(String version, byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
+    }
+}
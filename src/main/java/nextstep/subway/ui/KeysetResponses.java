@@ -0,0 +1,26 @@
+package nextstep.subway.ui;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 다음 페이지가 있으면 마지막 항목의 id 를 X-Next-Cursor 헤더로 알려 준다. 다음 요청은 이 값을 after 로 보낸다.
+ */
+final class KeysetResponses {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private KeysetResponses() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(Slice<T> slice, ToLongFunction<T> idOf) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (slice.hasNext()) {
+            T last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(idOf.applyAsLong(last)));
+        }
+        return response.body(slice.getContent());
+    }
+}
@@ -1,6 +1,7 @@
 package nextstep.subway.ui;
 
 import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.StationService;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
 import nextstep.subway.applicaion.dto.SectionRequest;
@@ -8,15 +9,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/lines")
 public class LineController {
     private LineService lineService;
+    private StationService stationService;
+    private JsonResponseCache jsonResponseCache;
 
-    public LineController(LineService lineService) {
+    public LineController(LineService lineService, StationService stationService, JsonResponseCache jsonResponseCache) {
         this.lineService = lineService;
+        this.stationService = stationService;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     @PostMapping
@@ -25,16 +29,24 @@ public class LineController {
         return ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line);
     }
 
+    /**
+     * 조건이 하나도 없으면 전체 목록을 캐시에서 응답하고, 있으면 id 커서로 나눠 응답한다.
+     */
     @GetMapping
-    public ResponseEntity<List<LineResponse>> showLines() {
-        List<LineResponse> responses = lineService.showLines();
-        return ResponseEntity.ok().body(responses);
+    public ResponseEntity<?> showLines(@RequestParam(required = false) Long after,
+                                       @RequestParam(required = false) Integer size,
+                                       @RequestParam(required = false) String namePrefix) {
+        if (after == null && size == null && namePrefix == null) {
+            String version = lineService.getVersion() + "." + stationService.getVersion();
+            return jsonResponseCache.respond("lines", version, lineService::showLines);
+        }
+        return KeysetResponses.ok(lineService.findLines(after, size, namePrefix), LineResponse::getId);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LineResponse> getLine(@PathVariable Long id) {
-        LineResponse lineResponse = lineService.findById(id);
-        return ResponseEntity.ok().body(lineResponse);
+    public ResponseEntity<byte[]> getLine(@PathVariable Long id) {
+        String version = lineService.getVersion() + "." + stationService.getVersion();
+        return jsonResponseCache.respond("line", "line-" + id, version, () -> lineService.findById(id));
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,33 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.dto.PathMatrixRequest;
+import nextstep.subway.applicaion.dto.PathMatrixResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.domain.path.PathType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class PathController {
+    private PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping("/paths")
+    public ResponseEntity<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target,
+                                                 @RequestParam(defaultValue = "DISTANCE") PathType type) {
+        return ResponseEntity.ok().body(pathService.findPath(source, target, type));
+    }
+
+    @PostMapping("/paths/matrix")
+    public ResponseEntity<PathMatrixResponse> findDistances(@RequestBody PathMatrixRequest request) {
+        return ResponseEntity.ok().body(pathService.findDistances(request));
+    }
+}
@@ -0,0 +1,49 @@
+package nextstep.subway.ui;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.subway.support.QueryCountingInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청마다 실행한 SQL 문 수와 읽어 들인 엔티티 수를 URI 패턴별 분포로 기록한다. N+1 이 생기면 이 분포가 먼저 움직인다.
+ */
+@Component
+public class QueryMetricsFilter extends OncePerRequestFilter {
+    private MeterRegistry meterRegistry;
+
+    public QueryMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountingInterceptor.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            record("subway.http.jdbc.statements", request.getMethod(), uri, QueryCountingInterceptor.statementCount());
+            record("subway.http.entity.loads", request.getMethod(), uri, QueryCountingInterceptor.entityLoadCount());
+        }
+    }
+
+    private void record(String name, String method, String uri, long count) {
+        DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(count);
+    }
+}
@@ -0,0 +1,49 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.NetworkReadService;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.path.PathType;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 메모리 노선도를 읽는 논블로킹 API. 목록은 NDJSON 으로 요청하면 클라이언트가 읽는 속도에 맞춰 한 건씩 내려보낸다.
+ */
+@RestController
+@RequestMapping("/reactive")
+public class ReactiveController {
+    private NetworkReadService networkReadService;
+
+    public ReactiveController(NetworkReadService networkReadService) {
+        this.networkReadService = networkReadService;
+    }
+
+    @GetMapping(value = "/stations", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<StationResponse> showStations() {
+        return networkReadService.findAllStations();
+    }
+
+    @GetMapping(value = "/lines", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<LineResponse> showLines() {
+        return networkReadService.findAllLines();
+    }
+
+    @GetMapping("/lines/{id}")
+    public Mono<LineResponse> getLine(@PathVariable Long id) {
+        return networkReadService.findLine(id);
+    }
+
+    @GetMapping("/paths")
+    public Mono<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target,
+                                       @RequestParam(defaultValue = "DISTANCE") PathType type) {
+        return networkReadService.findPath(source, target, type);
+    }
+}
@@ -8,14 +8,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 public class StationController {
     private StationService stationService;
+    private JsonResponseCache jsonResponseCache;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, JsonResponseCache jsonResponseCache) {
         this.stationService = stationService;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     @PostMapping("/stations")
@@ -24,9 +25,19 @@ public class StationController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
+    /**
+     * 조건이 하나도 없으면 전체 목록을 캐시에서 응답하고, 있으면 id 커서로 나눠 응답한다.
+     */
     @GetMapping(value = "/stations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<?> showStations(@RequestParam(required = false) Long after,
+                                          @RequestParam(required = false) Integer size,
+                                          @RequestParam(required = false) String namePrefix,
+                                          @RequestParam(required = false) Long lineId) {
+        if (after == null && size == null && namePrefix == null && lineId == null) {
+            String version = String.valueOf(stationService.getVersion());
+            return jsonResponseCache.respond("stations", version, stationService::findAllStations);
+        }
+        return KeysetResponses.ok(stationService.findStations(after, size, namePrefix, lineId), StationResponse::getId);
     }
 
     @DeleteMapping("/stations/{id}")
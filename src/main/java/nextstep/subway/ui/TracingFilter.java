@@ -0,0 +1,108 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.support.OtlpSpanExporter;
+import nextstep.subway.support.Span;
+import nextstep.subway.support.Trace;
+import nextstep.subway.support.Tracer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 표본으로 뽑힌 요청과 디버그 헤더가 붙은 요청을 추적한다.
+ * 디버그 요청은 응답 본문을 버퍼에 모았다가 단계별 시간을 Server-Timing 헤더로 붙여 보낸다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingFilter extends OncePerRequestFilter {
+    public static final String DEBUG_HEADER = "X-Debug-Trace";
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final Pattern TRACEPARENT = Pattern.compile("00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})");
+
+    private OtlpSpanExporter exporter;
+    private double sampleRate;
+    private boolean debugHeaderEnabled;
+
+    public TracingFilter(OtlpSpanExporter exporter,
+                         @Value("${subway.tracing.sample-rate}") double sampleRate,
+                         @Value("${subway.tracing.debug-header.enabled:false}") boolean debugHeaderEnabled) {
+        this.exporter = exporter;
+        this.sampleRate = sampleRate;
+        this.debugHeaderEnabled = debugHeaderEnabled;
+    }
+
+    /**
+     * 리액티브 응답은 요청 스레드를 벗어나 쓰이므로 추적하지 않는다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/reactive");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Matcher traceparent = TRACEPARENT.matcher(String.valueOf(request.getHeader("traceparent")));
+        boolean parentSampled = traceparent.matches() && (Integer.parseInt(traceparent.group(3), 16) & 1) == 1;
+        boolean sampled = exporter.isEnabled()
+                && (parentSampled || ThreadLocalRandom.current().nextDouble() < sampleRate);
+        boolean debug = debugHeaderEnabled && request.getHeader(DEBUG_HEADER) != null;
+        if (!sampled && !debug) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Tracer.start(traceparent.matches() ? traceparent.group(1) : null,
+                traceparent.matches() ? traceparent.group(2) : null, request.getMethod());
+        ContentCachingResponseWrapper buffered = debug ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            filterChain.doFilter(request, debug ? buffered : response);
+        } finally {
+            Trace trace = Tracer.finish();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            trace.getRoot().rename(request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern));
+            if (debug) {
+                buffered.setHeader("Server-Timing", serverTiming(trace));
+                buffered.setHeader(TRACE_ID_HEADER, trace.getTraceId());
+                buffered.copyBodyToResponse();
+            }
+            if (sampled) {
+                exporter.export(trace);
+            }
+        }
+    }
+
+    /**
+     * 단계별로 그 단계에서만 쓴 시간(ms)과 요청 전체 시간. 단계 시간을 모두 더하면 total 과 같다.
+     */
+    private String serverTiming(Trace trace) {
+        StringBuilder header = new StringBuilder();
+        for (Map.Entry<String, Long> phase : trace.selfNanosByKind().entrySet()) {
+            appendMetric(header, phase.getKey(), phase.getValue());
+        }
+        appendMetric(header, "total", trace.getRoot().getDurationNanos());
+        return header.toString();
+    }
+
+    private void appendMetric(StringBuilder header, String name, long nanos) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+}
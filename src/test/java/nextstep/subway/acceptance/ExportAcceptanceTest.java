@@ -0,0 +1,75 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static nextstep.subway.acceptance.ExportSteps.노선도_내보내기_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선도 내보내기")
+class ExportAcceptanceTest extends AcceptanceTest {
+    /**
+     * Given 지하철역과 노선, 구간을 생성하고
+     * When 노선도 내보내기를 요청 하면
+     * Then 역, 노선, 구간이 한 줄에 하나씩 응답된다
+     */
+    @DisplayName("노선도 내보내기")
+    @Test
+    void exportNetwork() {
+        // given
+        Long 교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        Long 강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        Long 역삼역 = 지하철역_생성_요청("역삼역").jsonPath().getLong("id");
+        Long 이호선 = 지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 강남역, 10)).jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(이호선, createSectionCreateParams(강남역, 역삼역, 5));
+
+        // when
+        ExtractableResponse<Response> response = 노선도_내보내기_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+
+        List<JsonPath> records = Arrays.stream(response.asString().split("\n"))
+                .map(JsonPath::from)
+                .collect(Collectors.toList());
+        assertThat(records).extracting(record -> record.getString("type"))
+                .containsExactly("station", "station", "station", "line", "section", "section");
+        assertThat(records.get(3).getString("name")).isEqualTo("2호선");
+        assertThat(records.get(5).getLong("upStationId")).isEqualTo(강남역);
+        assertThat(records.get(5).getLong("downStationId")).isEqualTo(역삼역);
+        assertThat(records.get(5).getInt("distance")).isEqualTo(5);
+    }
+
+    private Map<String, String> createLineCreateParams(String name, String color, Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
+
+    private Map<String, String> createSectionCreateParams(Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+public class ExportSteps {
+    public static ExtractableResponse<Response> 노선도_내보내기_요청() {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().get("/exports")
+                .then().log().all().extract();
+    }
+}
@@ -0,0 +1,72 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.subway.acceptance.ImportSteps.노선도_일괄_등록_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_목록_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선도 일괄 등록")
+class ImportAcceptanceTest extends AcceptanceTest {
+    /**
+     * Given 지하철역을 생성하고
+     * When 기존 역을 포함한 노선도 일괄 등록을 요청 하면
+     * Then 기존 역을 재사용해 노선과 구간이 생성된다
+     */
+    @DisplayName("노선도 일괄 등록")
+    @Test
+    void importNetwork() {
+        // given
+        Long 교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+
+        // when
+        ExtractableResponse<Response> response = 노선도_일괄_등록_요청(
+                "line,color,upStation,downStation,distance\n" +
+                        "2호선,green,교대역,강남역,10\n" +
+                        "3호선,orange,교대역,남부터미널역,2\n" +
+                        "신분당선,red,강남역,양재역,10\n" +
+                        "3호선,orange,남부터미널역,양재역,3\n");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("stationCount")).isEqualTo(3);
+        assertThat(response.jsonPath().getInt("lineCount")).isEqualTo(3);
+        assertThat(response.jsonPath().getInt("sectionCount")).isEqualTo(4);
+
+        assertThat(지하철역_목록_조회_요청().jsonPath().getList("name"))
+                .containsExactlyInAnyOrder("교대역", "강남역", "남부터미널역", "양재역");
+        ExtractableResponse<Response> linesResponse = 지하철_노선_목록_조회_요청();
+        assertThat(linesResponse.jsonPath().getList("name")).containsExactly("2호선", "3호선", "신분당선");
+        assertThat(linesResponse.jsonPath().getList("[1].stations.name")).containsExactly("교대역", "남부터미널역", "양재역");
+        assertThat(linesResponse.jsonPath().getLong("[1].stations[0].id")).isEqualTo(교대역);
+
+        Long 양재역 = linesResponse.jsonPath().getLong("[1].stations[2].id");
+        ExtractableResponse<Response> pathResponse = 지하철_경로_조회_요청(교대역, 양재역);
+        assertThat(pathResponse.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    /**
+     * When 구간이 이어지지 않는 노선도 일괄 등록을 요청 하면
+     * Then 일괄 등록에 실패하고 아무것도 생성되지 않는다
+     */
+    @DisplayName("구간이 이어지지 않는 노선도 일괄 등록")
+    @Test
+    void importNetworkWithBrokenChain() {
+        // when
+        ExtractableResponse<Response> response = 노선도_일괄_등록_요청(
+                "2호선,green,교대역,강남역,10\n" +
+                        "2호선,green,역삼역,선릉역,5\n");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철역_목록_조회_요청().jsonPath().getList("name")).isEmpty();
+        assertThat(지하철_노선_목록_조회_요청().jsonPath().getList("name")).isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class ImportSteps {
+    public static ExtractableResponse<Response> 노선도_일괄_등록_요청(String csv) {
+        return RestAssured
+                .given().log().all()
+                .body(csv)
+                .contentType("text/csv")
+                .when().post("/imports")
+                .then().log().all().extract();
+    }
+}
@@ -51,6 +51,41 @@ class LineAcceptanceTest extends AcceptanceTest {
         assertThat(response.jsonPath().getList("name")).contains("2호선", "3호선");
     }
 
+    /**
+     * Given 지하철 노선 목록 조회를 요청 하고
+     * When 응답받은 ETag 로 다시 목록 조회를 요청 하면
+     * Then 변경되지 않았다는 응답을 받는다
+     * When 지하철 노선 정보를 수정 한 뒤 같은 ETag 로 목록 조회를 요청 하면
+     * Then 변경된 목록을 응답받는다
+     */
+    @DisplayName("지하철 노선 목록 조건부 조회")
+    @Test
+    void getLinesWithETag() {
+        // given
+        ExtractableResponse<Response> createResponse = 지하철_노선_생성_요청("2호선", "green");
+        String eTag = 지하철_노선_목록_조회_요청().header("ETag");
+
+        // when
+        ExtractableResponse<Response> notModifiedResponse = 지하철_노선_목록_조건부_조회_요청(eTag);
+
+        // then
+        assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // when
+        Map<String, String> params = new HashMap<>();
+        params.put("color", "red");
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().put(createResponse.header("location"))
+                .then().log().all();
+        ExtractableResponse<Response> modifiedResponse = 지하철_노선_목록_조건부_조회_요청(eTag);
+
+        // then
+        assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(modifiedResponse.jsonPath().getList("color")).containsExactly("red");
+    }
+
     /**
      * Given 지하철 노선 생성을 요청 하고
      * When 생성한 지하철 노선 조회를 요청 하면
@@ -72,14 +107,18 @@ class LineAcceptanceTest extends AcceptanceTest {
 
     /**
      * Given 지하철 노선 생성을 요청 하고
+     * Given 지하철 노선 조회를 요청 하고
      * When 지하철 노선의 정보 수정을 요청 하면
      * Then 지하철 노선의 정보 수정은 성공한다.
+     * Then 수정된 지하철 노선을 응답받는다.
      */
     @DisplayName("지하철 노선 수정")
     @Test
     void updateLine() {
         // given
         ExtractableResponse<Response> createResponse = 지하철_노선_생성_요청("2호선", "green");
+        지하철_노선_조회_요청(createResponse);
+        지하철_노선_목록_조회_요청();
 
         // when
         Map<String, String> params = new HashMap<>();
@@ -93,6 +132,8 @@ class LineAcceptanceTest extends AcceptanceTest {
 
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(지하철_노선_조회_요청(createResponse).jsonPath().getString("color")).isEqualTo("red");
+        assertThat(지하철_노선_목록_조회_요청().jsonPath().getList("color")).containsExactly("red");
     }
 
     /**
@@ -133,4 +174,47 @@ class LineAcceptanceTest extends AcceptanceTest {
         // then
         assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
+
+    /**
+     * Given 지하철 노선 세 개를 생성하고
+     * When 한 개씩 지하철 노선 목록 조회를 요청 하면
+     * Then 첫 노선과 다음 페이지 커서를 응답받는다
+     * When 응답받은 커서 다음의 노선 목록 조회를 요청 하면
+     * Then 두 번째 노선을 응답받는다
+     * When 이름 접두사로 노선 목록 조회를 요청 하면
+     * Then 이름이 접두사로 시작하는 노선만 응답받는다
+     */
+    @DisplayName("지하철 노선 목록 페이지 조회")
+    @Test
+    void getLinesByPage() {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+        지하철_노선_생성_요청("신분당선", "red");
+        지하철_노선_생성_요청("3호선", "orange");
+
+        // when
+        Map<String, Object> params = new HashMap<>();
+        params.put("size", 1);
+        ExtractableResponse<Response> firstPage = 지하철_노선_목록_페이지_조회_요청(params);
+
+        // then
+        assertThat(firstPage.jsonPath().getList("name")).containsExactly("2호선");
+        assertThat(firstPage.header("X-Next-Cursor")).isNotNull();
+
+        // when
+        params.put("after", firstPage.header("X-Next-Cursor"));
+        ExtractableResponse<Response> secondPage = 지하철_노선_목록_페이지_조회_요청(params);
+
+        // then
+        assertThat(secondPage.jsonPath().getList("name")).containsExactly("신분당선");
+
+        // when
+        Map<String, Object> prefixParams = new HashMap<>();
+        prefixParams.put("namePrefix", "3");
+        ExtractableResponse<Response> filtered = 지하철_노선_목록_페이지_조회_요청(prefixParams);
+
+        // then
+        assertThat(filtered.jsonPath().getList("name")).containsExactly("3호선");
+        assertThat(filtered.header("X-Next-Cursor")).isNull();
+    }
 }
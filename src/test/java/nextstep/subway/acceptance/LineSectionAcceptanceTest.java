@@ -73,6 +73,73 @@ class LineSectionAcceptanceTest extends AcceptanceTest {
         assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 양재역);
     }
 
+    /**
+     * When 지하철 노선의 기존 구간 사이에 새로운 구간 추가를 요청 하면
+     * Then 노선의 역 사이에 새로운 역이 추가된다
+     */
+    @DisplayName("지하철 노선의 역 사이에 구간을 등록")
+    @Test
+    void addLineSectionBetween() {
+        // when
+        Long 양재시민의숲역 = 지하철역_생성_요청("양재시민의숲역").jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(신분당선, createSectionCreateParams(강남역, 양재시민의숲역));
+
+        // then
+        ExtractableResponse<Response> response = 지하철_노선_조회_요청(신분당선);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 양재시민의숲역, 양재역);
+    }
+
+    /**
+     * When 지하철 노선의 상행 종점 앞에 새로운 구간 추가를 요청 하면
+     * Then 노선의 처음에 새로운 역이 추가된다
+     */
+    @DisplayName("지하철 노선의 처음에 구간을 등록")
+    @Test
+    void addLineSectionAtHead() {
+        // when
+        Long 신사역 = 지하철역_생성_요청("신사역").jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(신분당선, createSectionCreateParams(신사역, 강남역));
+
+        // then
+        ExtractableResponse<Response> response = 지하철_노선_조회_요청(신분당선);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(신사역, 강남역, 양재역);
+    }
+
+    /**
+     * Given 지하철 노선에 새로운 구간 추가를 요청 하고
+     * When 지하철 노선의 가운데 역 제거를 요청 하면
+     * Then 앞뒤 구간이 하나로 합쳐진다
+     */
+    @DisplayName("지하철 노선의 가운데 역을 제거")
+    @Test
+    void removeMiddleStation() {
+        // given
+        Long 정자역 = 지하철역_생성_요청("정자역").jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(신분당선, createSectionCreateParams(양재역, 정자역));
+
+        // when
+        ExtractableResponse<Response> removeResponse = 지하철_노선에_지하철_구간_제거_요청(신분당선, 양재역);
+
+        // then
+        assertThat(removeResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        ExtractableResponse<Response> response = 지하철_노선_조회_요청(신분당선);
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 정자역);
+    }
+
+    /**
+     * When 구간이 하나뿐인 지하철 노선의 역 제거를 요청 하면
+     * Then 구간 제거에 실패한다
+     */
+    @DisplayName("구간이 하나뿐인 지하철 노선의 역을 제거")
+    @Test
+    void removeStationFromSingleSection() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선에_지하철_구간_제거_요청(신분당선, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     private Map<String, String> createLineCreateParams(Long upStationId, Long downStationId) {
         Map<String, String> lineCreateParams;
         lineCreateParams = new HashMap<>();
@@ -28,6 +28,22 @@ public class LineSteps {
                 .then().log().all().extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_목록_페이지_조회_요청(Map<String, Object> params) {
+        return RestAssured
+                .given().log().all()
+                .queryParams(params)
+                .when().get("/lines")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_조건부_조회_요청(String eTag) {
+        return RestAssured
+                .given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/lines")
+                .then().log().all().extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_조회_요청(ExtractableResponse<Response> createResponse) {
         return RestAssured
                 .given().log().all()
@@ -0,0 +1,55 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.subway.acceptance.MetricsSteps.지표_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_목록_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지표 수집")
+class MetricsAcceptanceTest extends AcceptanceTest {
+    /**
+     * Given 지하철역을 생성하고
+     * When 지하철역 목록을 조회하면
+     * Then 서비스 메서드 실행 시간이 기록된다
+     */
+    @DisplayName("서비스 메서드 실행 시간 기록")
+    @Test
+    void serviceTimer() {
+        // given
+        지하철역_생성_요청("강남역");
+
+        // when
+        지하철역_목록_조회_요청();
+
+        // then
+        ExtractableResponse<Response> response = 지표_조회_요청("subway.service", "method:findAllStations");
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getDouble("measurements.find { it.statistic == 'COUNT' }.value")).isPositive();
+    }
+
+    /**
+     * Given 지하철역을 생성하고
+     * When 지하철역 목록을 조회하면
+     * Then 요청에서 실행한 SQL 문 수가 기록된다
+     */
+    @DisplayName("요청별 SQL 문 수 기록")
+    @Test
+    void statementCount() {
+        // given
+        지하철역_생성_요청("강남역");
+
+        // when
+        지하철역_목록_조회_요청();
+
+        // then
+        ExtractableResponse<Response> response = 지표_조회_요청("subway.http.jdbc.statements", "uri:/stations");
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getDouble("measurements.find { it.statistic == 'TOTAL' }.value")).isPositive();
+    }
+}
@@ -0,0 +1,14 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class MetricsSteps {
+    public static ExtractableResponse<Response> 지표_조회_요청(String name, String tag) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/actuator/metrics/{name}?tag={tag}", name, tag)
+                .then().log().all().extract();
+    }
+}
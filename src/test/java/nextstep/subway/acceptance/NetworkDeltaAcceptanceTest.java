@@ -0,0 +1,155 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static nextstep.subway.acceptance.LineSteps.*;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.ReactiveSteps.논블로킹_지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.ReactiveSteps.논블로킹_지하철_노선_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 집계와의 대조를 끈 채로, 쓰기 요청마다 반영한 변경분만으로 메모리 노선도와 경로가 맞는지 확인한다.
+ */
+@DisplayName("메모리 노선도 변경분 반영")
+@TestPropertySource(properties = "subway.network.consistency-check.enabled=false")
+class NetworkDeltaAcceptanceTest extends AcceptanceTest {
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 이호선;
+    private Long 신분당선;
+
+    /**
+     * 교대역 --- *2호선* (10km) --- 강남역 --- *신분당선* (10km) --- 양재역
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        양재역 = 지하철역_생성_요청("양재역").jsonPath().getLong("id");
+
+        이호선 = 지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 강남역)).jsonPath().getLong("id");
+        신분당선 = 지하철_노선_생성_요청(createLineCreateParams("신분당선", "red", 강남역, 양재역)).jsonPath().getLong("id");
+    }
+
+    /**
+     * When 메모리 노선 목록을 요청 하면
+     * Then 이전 테스트에서 만든 노선 없이 이번에 만든 노선만 응답된다
+     */
+    @DisplayName("DB 를 비우면 메모리 노선도도 비운 DB 기준으로 다시 읽는다")
+    @Test
+    void reloadAfterCleanup() {
+        // when
+        ExtractableResponse<Response> response = 논블로킹_지하철_노선_목록_조회_요청();
+
+        // then
+        List<String> names = Arrays.stream(response.asString().split("\n"))
+                .map(line -> JsonPath.from(line).getString("name"))
+                .collect(Collectors.toList());
+        assertThat(names).containsExactly("2호선", "신분당선");
+    }
+
+    /**
+     * When 노선에 구간을 추가 하고 다시 제거 하면
+     * Then 메모리 노선도의 역 목록과 경로가 매번 바뀐 구간을 따른다
+     */
+    @DisplayName("구간 추가와 제거를 메모리 노선도와 경로에 반영")
+    @Test
+    void applySectionChanges() {
+        // when
+        Long 정자역 = 지하철역_생성_요청("정자역").jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(신분당선, createSectionCreateParams(양재역, 정자역));
+
+        // then
+        assertThat(논블로킹_지하철_노선_조회_요청(신분당선).jsonPath().getList("stations.id", Long.class))
+                .containsExactly(강남역, 양재역, 정자역);
+        assertThat(지하철_경로_조회_요청(교대역, 정자역).jsonPath().getInt("distance")).isEqualTo(25);
+
+        // when
+        지하철_노선에_지하철_구간_제거_요청(신분당선, 정자역);
+
+        // then
+        assertThat(논블로킹_지하철_노선_조회_요청(신분당선).jsonPath().getList("stations.id", Long.class))
+                .containsExactly(강남역, 양재역);
+        assertThat(지하철_경로_조회_요청(교대역, 정자역).statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 노선 정보 수정을 요청 하면
+     * Then 메모리 노선도의 노선 정보가 바뀐다
+     */
+    @DisplayName("노선 수정을 메모리 노선도에 반영")
+    @Test
+    void applyLineUpdate() {
+        // when
+        Map<String, String> params = new HashMap<>();
+        params.put("color", "orange");
+        RestAssured.given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().put("/lines/{id}", 이호선)
+                .then().log().all().extract();
+
+        // then
+        ExtractableResponse<Response> response = 논블로킹_지하철_노선_조회_요청(이호선);
+        assertThat(response.jsonPath().getString("color")).isEqualTo("orange");
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 강남역);
+    }
+
+    /**
+     * When 노선 삭제를 요청 하면
+     * Then 메모리 노선도에서 노선이 빠지고 그 노선을 지나던 경로도 더 이상 찾지 못한다
+     */
+    @DisplayName("노선 삭제를 메모리 노선도와 경로에 반영")
+    @Test
+    void applyLineDelete() {
+        // given
+        assertThat(지하철_경로_조회_요청(교대역, 양재역).jsonPath().getInt("distance")).isEqualTo(20);
+
+        // when
+        RestAssured.given().log().all()
+                .when().delete("/lines/{id}", 신분당선)
+                .then().log().all().extract();
+
+        // then
+        assertThat(논블로킹_지하철_노선_조회_요청(신분당선).statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(지하철_경로_조회_요청(교대역, 양재역).statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private Map<String, String> createLineCreateParams(String name, String color, Long upStationId, Long downStationId) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", 10 + "");
+        return params;
+    }
+
+    private Map<String, String> createSectionCreateParams(Long upStationId, Long downStationId) {
+        Map<String, String> params = new HashMap<>();
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", 5 + "");
+        return params;
+    }
+}
@@ -0,0 +1,175 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static nextstep.subway.acceptance.LineSteps.*;
+import static nextstep.subway.acceptance.PathSteps.지하철_거리_행렬_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 경로 검색")
+class PathAcceptanceTest extends AcceptanceTest {
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 남부터미널역;
+    private Long 이호선;
+    private Long 신분당선;
+    private Long 삼호선;
+
+    /**
+     * 교대역    --- *2호선* (10km, 2분) ---   강남역
+     * |                                      |
+     * *3호선* (2km, 10분)                     *신분당선* (10km, 3분)
+     * |                                      |
+     * 남부터미널역  --- *3호선* (3km, 10분) ---   양재
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        양재역 = 지하철역_생성_요청("양재역").jsonPath().getLong("id");
+        남부터미널역 = 지하철역_생성_요청("남부터미널역").jsonPath().getLong("id");
+
+        이호선 = 지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 강남역, 10, 2)).jsonPath().getLong("id");
+        신분당선 = 지하철_노선_생성_요청(createLineCreateParams("신분당선", "red", 강남역, 양재역, 10, 3)).jsonPath().getLong("id");
+        삼호선 = 지하철_노선_생성_요청(createLineCreateParams("3호선", "orange", 교대역, 남부터미널역, 2, 10)).jsonPath().getLong("id");
+
+        지하철_노선에_지하철_구간_생성_요청(삼호선, createSectionCreateParams(남부터미널역, 양재역, 3, 10));
+    }
+
+    /**
+     * When 출발역과 도착역의 경로 조회를 요청 하면
+     * Then 최단 거리 경로를 응답받는다
+     */
+    @DisplayName("두 역의 최단 거리 경로를 조회")
+    @Test
+    void findPath() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    /**
+     * When 출발역과 도착역의 최소 시간 경로 조회를 요청 하면
+     * Then 환승 시간을 포함한 최소 시간 경로를 응답받는다
+     */
+    @DisplayName("두 역의 최소 시간 경로를 조회")
+    @Test
+    void findDurationPath() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역, "DURATION");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 강남역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(20);
+        assertThat(response.jsonPath().getInt("duration")).isEqualTo(10);
+        assertThat(response.jsonPath().getInt("transferCount")).isEqualTo(1);
+    }
+
+    /**
+     * When 출발역과 도착역의 최소 환승 경로 조회를 요청 하면
+     * Then 환승 횟수가 가장 적은 경로를 응답받는다
+     */
+    @DisplayName("두 역의 최소 환승 경로를 조회")
+    @Test
+    void findTransferPath() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역, "TRANSFER");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(response.jsonPath().getInt("transferCount")).isZero();
+    }
+
+    /**
+     * Given 출발역과 도착역의 경로 조회를 요청 하고
+     * Given 경로 중간의 구간을 제거 하고
+     * When 출발역과 도착역의 경로 조회를 다시 요청 하면
+     * Then 변경된 노선도 기준의 최단 거리 경로를 응답받는다
+     */
+    @DisplayName("구간 변경 후 최단 거리 경로를 조회")
+    @Test
+    void findPathAfterSectionRemoved() {
+        // given
+        지하철_경로_조회_요청(교대역, 양재역);
+        지하철_노선에_지하철_구간_제거_요청(삼호선, 양재역);
+
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 강남역, 양재역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(20);
+    }
+
+    /**
+     * When 출발역과 도착역이 같은 경로 조회를 요청 하면
+     * Then 경로 조회에 실패한다
+     */
+    @DisplayName("출발역과 도착역이 같은 경로를 조회")
+    @Test
+    void findPathWithSameStations() {
+        // when
+        ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 교대역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 여러 출발역과 여러 도착역의 거리 행렬 조회를 요청 하면
+     * Then 출발역과 도착역 쌍마다 최단 거리를 응답받는다
+     */
+    @DisplayName("여러 역 사이의 거리 행렬을 조회")
+    @Test
+    void findDistances() {
+        // when
+        ExtractableResponse<Response> response = 지하철_거리_행렬_조회_요청(
+                Arrays.asList(교대역, 강남역), Arrays.asList(양재역, 남부터미널역));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("distances[0]", Integer.class)).containsExactly(5, 2);
+        assertThat(response.jsonPath().getList("distances[1]", Integer.class)).containsExactly(10, 12);
+    }
+
+    private Map<String, String> createLineCreateParams(String name, String color, Long upStationId, Long downStationId, int distance, int duration) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        params.put("duration", duration + "");
+        return params;
+    }
+
+    private Map<String, String> createSectionCreateParams(Long upStationId, Long downStationId, int distance, int duration) {
+        Map<String, String> params = new HashMap<>();
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        params.put("duration", duration + "");
+        return params;
+    }
+}
@@ -0,0 +1,38 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PathSteps {
+    public static ExtractableResponse<Response> 지하철_경로_조회_요청(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths?source={source}&target={target}", source, target)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_경로_조회_요청(Long source, Long target, String type) {
+        return RestAssured
+                .given().log().all()
+                .when().get("/paths?source={source}&target={target}&type={type}", source, target, type)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_거리_행렬_조회_요청(List<Long> sources, List<Long> targets) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("sources", sources);
+        params.put("targets", targets);
+        return RestAssured
+                .given().log().all()
+                .body(params)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/paths/matrix")
+                .then().log().all().extract();
+    }
+}
@@ -0,0 +1,115 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선에_지하철_구간_생성_요청;
+import static nextstep.subway.acceptance.ReactiveSteps.*;
+import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("논블로킹 조회")
+class ReactiveAcceptanceTest extends AcceptanceTest {
+    private Long 교대역;
+    private Long 강남역;
+    private Long 역삼역;
+    private Long 이호선;
+
+    /**
+     * 교대역 --- *2호선* (4km) --- 강남역 --- *2호선* (6km) --- 역삼역
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        교대역 = 지하철역_생성_요청("교대역").jsonPath().getLong("id");
+        강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        역삼역 = 지하철역_생성_요청("역삼역").jsonPath().getLong("id");
+
+        이호선 = 지하철_노선_생성_요청(createLineCreateParams("2호선", "green", 교대역, 역삼역, 10)).jsonPath().getLong("id");
+        지하철_노선에_지하철_구간_생성_요청(이호선, createSectionCreateParams(교대역, 강남역, 4));
+    }
+
+    /**
+     * When 노선 목록을 NDJSON 으로 요청 하면
+     * Then 노선이 한 줄에 하나씩 상행부터 정렬된 역 목록과 함께 응답된다
+     */
+    @DisplayName("노선 목록을 스트리밍으로 조회")
+    @Test
+    void showLines() {
+        // when
+        ExtractableResponse<Response> response = 논블로킹_지하철_노선_목록_조회_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+
+        List<JsonPath> lines = Arrays.stream(response.asString().split("\n"))
+                .map(JsonPath::from)
+                .collect(Collectors.toList());
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).getString("name")).isEqualTo("2호선");
+        assertThat(lines.get(0).getList("stations.id", Long.class)).containsExactly(교대역, 강남역, 역삼역);
+    }
+
+    /**
+     * When 없는 노선을 요청 하면
+     * Then 조회에 실패한다
+     */
+    @DisplayName("없는 노선을 조회")
+    @Test
+    void getUnknownLine() {
+        // when
+        ExtractableResponse<Response> response = 논블로킹_지하철_노선_조회_요청(이호선 + 100);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 출발역과 도착역의 경로 조회를 요청 하면
+     * Then 최단 거리 경로를 응답받는다
+     */
+    @DisplayName("두 역의 최단 거리 경로를 조회")
+    @Test
+    void findPath() {
+        // when
+        ExtractableResponse<Response> response = 논블로킹_지하철_경로_조회_요청(역삼역, 교대역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(역삼역, 강남역, 교대역);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(10);
+    }
+
+    private Map<String, String> createLineCreateParams(String name, String color, Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("name", name);
+        params.put("color", color);
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
+
+    private Map<String, String> createSectionCreateParams(Long upStationId, Long downStationId, int distance) {
+        Map<String, String> params = new HashMap<>();
+        params.put("upStationId", upStationId + "");
+        params.put("downStationId", downStationId + "");
+        params.put("distance", distance + "");
+        return params;
+    }
+}
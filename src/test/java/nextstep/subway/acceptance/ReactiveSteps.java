@@ -0,0 +1,32 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.springframework.http.MediaType;
+
+public class ReactiveSteps {
+    public static ExtractableResponse<Response> 논블로킹_지하철_노선_목록_조회_요청() {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().get("/reactive/lines")
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 논블로킹_지하철_노선_조회_요청(Long id) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/reactive/lines/{id}", id)
+                .then().log().all().extract();
+    }
+
+    public static ExtractableResponse<Response> 논블로킹_지하철_경로_조회_요청(Long source, Long target) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/reactive/paths?source={source}&target={target}", source, target)
+                .then().log().all().extract();
+    }
+}
@@ -7,8 +7,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_목록_조건부_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철역_목록_페이지_조회_요청;
 import static nextstep.subway.acceptance.StationSteps.지하철역_생성_요청;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -54,6 +59,38 @@ class StationAcceptanceTest extends AcceptanceTest {
         assertThat(stationNames).contains("강남역", "역삼역");
     }
 
+    /**
+     * Given 지하철역 목록 조회를 요청 하고
+     * When 응답받은 ETag 로 다시 목록 조회를 요청 하면
+     * Then 변경되지 않았다는 응답을 받는다
+     * When 지하철역을 추가로 생성 한 뒤 같은 ETag 로 목록 조회를 요청 하면
+     * Then 새 ETag 와 함께 변경된 목록을 응답받는다
+     */
+    @DisplayName("지하철역 목록 조건부 조회")
+    @Test
+    void getStationsWithETag() {
+        // given
+        지하철역_생성_요청("강남역");
+        String eTag = RestAssured.given().log().all()
+                .when().get("/stations")
+                .then().log().all().extract().header("ETag");
+
+        // when
+        ExtractableResponse<Response> notModifiedResponse = 지하철역_목록_조건부_조회_요청(eTag);
+
+        // then
+        assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // when
+        지하철역_생성_요청("역삼역");
+        ExtractableResponse<Response> modifiedResponse = 지하철역_목록_조건부_조회_요청(eTag);
+
+        // then
+        assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(modifiedResponse.header("ETag")).isNotEqualTo(eTag);
+        assertThat(modifiedResponse.jsonPath().getList("name")).containsExactly("강남역", "역삼역");
+    }
+
     /**
      * Given 지하철역 생성을 요청 하고
      * When 생성한 지하철역 삭제를 요청 하면
@@ -94,4 +131,107 @@ class StationAcceptanceTest extends AcceptanceTest {
         // then
         assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
+
+    /**
+     * Given 지하철역 세 개를 생성하고
+     * When 두 개씩 지하철역 목록 조회를 요청 하면
+     * Then 앞의 두 지하철역과 다음 페이지 커서를 응답받는다
+     * When 응답받은 커서 다음의 지하철역 목록 조회를 요청 하면
+     * Then 나머지 지하철역을 응답받고 다음 페이지 커서는 없다
+     */
+    @DisplayName("지하철역 목록 페이지 조회")
+    @Test
+    void getStationsByPage() {
+        // given
+        지하철역_생성_요청("강남역");
+        Long 역삼역 = 지하철역_생성_요청("역삼역").jsonPath().getLong("id");
+        지하철역_생성_요청("선릉역");
+
+        // when
+        Map<String, Object> params = new HashMap<>();
+        params.put("size", 2);
+        ExtractableResponse<Response> firstPage = 지하철역_목록_페이지_조회_요청(params);
+
+        // then
+        assertThat(firstPage.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(firstPage.jsonPath().getList("name")).containsExactly("강남역", "역삼역");
+        assertThat(firstPage.header("X-Next-Cursor")).isEqualTo(String.valueOf(역삼역));
+
+        // when
+        params.put("after", firstPage.header("X-Next-Cursor"));
+        ExtractableResponse<Response> lastPage = 지하철역_목록_페이지_조회_요청(params);
+
+        // then
+        assertThat(lastPage.jsonPath().getList("name")).containsExactly("선릉역");
+        assertThat(lastPage.header("X-Next-Cursor")).isNull();
+    }
+
+    /**
+     * Given 지하철역 세 개를 생성하고
+     * When 이름 접두사로 지하철역 목록 조회를 요청 하면
+     * Then 이름이 접두사로 시작하는 지하철역만 응답받는다
+     */
+    @DisplayName("이름 접두사로 지하철역 목록 조회")
+    @Test
+    void getStationsByNamePrefix() {
+        // given
+        지하철역_생성_요청("강남역");
+        지하철역_생성_요청("역삼역");
+        지하철역_생성_요청("강변역");
+
+        // when
+        Map<String, Object> params = new HashMap<>();
+        params.put("namePrefix", "강");
+        ExtractableResponse<Response> response = 지하철역_목록_페이지_조회_요청(params);
+
+        // then
+        assertThat(response.jsonPath().getList("name")).containsExactly("강남역", "강변역");
+    }
+
+    /**
+     * Given 지하철역 세 개를 생성하고
+     * Given 두 지하철역을 잇는 노선을 생성하고
+     * When 노선으로 지하철역 목록 조회를 요청 하면
+     * Then 노선에 등록된 지하철역만 응답받는다
+     */
+    @DisplayName("노선으로 지하철역 목록 조회")
+    @Test
+    void getStationsByLine() {
+        // given
+        Long 강남역 = 지하철역_생성_요청("강남역").jsonPath().getLong("id");
+        지하철역_생성_요청("역삼역");
+        Long 양재역 = 지하철역_생성_요청("양재역").jsonPath().getLong("id");
+        Map<String, String> lineParams = new HashMap<>();
+        lineParams.put("name", "신분당선");
+        lineParams.put("color", "red");
+        lineParams.put("upStationId", 강남역 + "");
+        lineParams.put("downStationId", 양재역 + "");
+        lineParams.put("distance", 10 + "");
+        lineParams.put("duration", 3 + "");
+        Long 신분당선 = 지하철_노선_생성_요청(lineParams).jsonPath().getLong("id");
+
+        // when
+        Map<String, Object> params = new HashMap<>();
+        params.put("lineId", 신분당선);
+        ExtractableResponse<Response> response = 지하철역_목록_페이지_조회_요청(params);
+
+        // then
+        assertThat(response.jsonPath().getList("name")).containsExactly("강남역", "양재역");
+    }
+
+    /**
+     * When 허용 범위를 넘는 크기로 지하철역 목록 조회를 요청 하면
+     * Then 조회에 실패한다
+     */
+    @DisplayName("허용 범위를 넘는 크기로 지하철역 목록 조회")
+    @Test
+    void getStationsWithTooLargePage() {
+        // when
+        Map<String, Object> params = new HashMap<>();
+        params.put("size", 100_000);
+        ExtractableResponse<Response> response = 지하철역_목록_페이지_조회_요청(params);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
 }
@@ -20,4 +20,30 @@ public class StationSteps {
                 .then().log().all()
                 .extract();
     }
+
+    public static ExtractableResponse<Response> 지하철역_목록_조회_요청() {
+        return RestAssured.given().log().all()
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철역_목록_페이지_조회_요청(Map<String, Object> params) {
+        return RestAssured.given().log().all()
+                .queryParams(params)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철역_목록_조건부_조회_요청(String eTag) {
+        return RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
 }
@@ -0,0 +1,52 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.TracingSteps.지하철_노선_목록_추적_조회_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요청 추적")
+class TracingAcceptanceTest extends AcceptanceTest {
+    /**
+     * Given 지하철 노선을 생성하고
+     * When 디버그 헤더를 붙여 지하철 노선 목록을 조회하면
+     * Then 단계별 처리 시간이 Server-Timing 헤더로 응답된다
+     */
+    @DisplayName("디버그 헤더로 단계별 처리 시간 조회")
+    @Test
+    void serverTiming() {
+        // given
+        지하철_노선_생성_요청("2호선", "green");
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_추적_조회_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("name")).containsExactly("2호선");
+        assertThat(response.header("Server-Timing"))
+                .contains("controller;dur=", "service;dur=", "serialization;dur=", "total;dur=");
+        assertThat(response.header("X-Trace-Id")).matches("[0-9a-f]{32}");
+    }
+
+    /**
+     * When 디버그 헤더 없이 지하철 노선 목록을 조회하면
+     * Then Server-Timing 헤더가 없다
+     */
+    @DisplayName("디버그 헤더가 없으면 처리 시간을 응답하지 않는다")
+    @Test
+    void withoutDebugHeader() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_목록_조회_요청();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.header("Server-Timing")).isNull();
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import nextstep.subway.ui.TracingFilter;
+
+public class TracingSteps {
+    public static ExtractableResponse<Response> 지하철_노선_목록_추적_조회_요청() {
+        return RestAssured
+                .given().log().all()
+                .header(TracingFilter.DEBUG_HEADER, "true")
+                .when().get("/lines")
+                .then().log().all().extract();
+    }
+}
@@ -0,0 +1,93 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.path.CompactGraph;
+import nextstep.subway.domain.path.ContractionHierarchy;
+import nextstep.subway.domain.path.Dijkstra;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractionHierarchyTest {
+    /**
+     * 0 --10-- 1
+     * |        |
+     * 2        10
+     * |        |
+     * 3 --3--  2      4
+     */
+    private final CompactGraph graph = new CompactGraph(
+            new long[]{10L, 20L, 30L, 40L, 50L},
+            new int[]{0, 1, 0, 3},
+            new int[]{1, 2, 3, 2},
+            new int[]{10, 10, 2, 3}
+    );
+
+    @DisplayName("두 정점 사이의 최단 경로 탐색")
+    @Test
+    void path() {
+        ContractionHierarchy contractionHierarchy = new ContractionHierarchy(graph);
+
+        assertThat(contractionHierarchy.path(0, 2)).containsExactly(0, 3, 2);
+        assertThat(contractionHierarchy.path(1, 3)).containsExactly(1, 0, 3);
+    }
+
+    @DisplayName("연결되지 않은 정점은 도달할 수 없다")
+    @Test
+    void pathUnreachable() {
+        ContractionHierarchy contractionHierarchy = new ContractionHierarchy(graph);
+
+        assertThat(contractionHierarchy.path(0, 4)).isEmpty();
+    }
+
+    @DisplayName("격자 노선도에서 다익스트라와 같은 거리의 경로를 찾는다")
+    @Test
+    void pathOnGrid() {
+        int width = 30;
+        int vertexCount = width * width;
+        Random random = new Random(42L);
+        long[] stationIds = new long[vertexCount];
+        int[] upIndexes = new int[2 * width * (width - 1)];
+        int[] downIndexes = new int[upIndexes.length];
+        int[] distances = new int[upIndexes.length];
+        int edge = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            stationIds[v] = v + 1;
+            if ((v + 1) % width != 0) {
+                upIndexes[edge] = v;
+                downIndexes[edge] = v + 1;
+                distances[edge++] = 1 + random.nextInt(10);
+            }
+            if (v + width < vertexCount) {
+                upIndexes[edge] = v;
+                downIndexes[edge] = v + width;
+                distances[edge++] = 1 + random.nextInt(10);
+            }
+        }
+        CompactGraph grid = new CompactGraph(stationIds, upIndexes, downIndexes, distances);
+        ContractionHierarchy contractionHierarchy = new ContractionHierarchy(grid);
+        Dijkstra dijkstra = new Dijkstra(grid);
+
+        for (int i = 0; i < 100; i++) {
+            int source = random.nextInt(vertexCount);
+            int target = random.nextInt(vertexCount);
+            dijkstra.search(source, target);
+
+            int[] path = contractionHierarchy.path(source, target);
+
+            assertThat(path[0]).isEqualTo(source);
+            assertThat(path[path.length - 1]).isEqualTo(target);
+            assertThat(distanceOf(grid, path)).isEqualTo(dijkstra.distanceTo(target));
+        }
+    }
+
+    private int distanceOf(CompactGraph graph, int[] path) {
+        int distance = 0;
+        for (int i = 1; i < path.length; i++) {
+            distance += graph.weight(graph.edgeBetween(path[i - 1], path[i], Dijkstra.NONE));
+        }
+        return distance;
+    }
+}
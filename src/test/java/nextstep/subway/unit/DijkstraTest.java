@@ -0,0 +1,71 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.path.CompactGraph;
+import nextstep.subway.domain.path.Dijkstra;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DijkstraTest {
+    /**
+     * 0 --10-- 1
+     * |        |
+     * 2        10
+     * |        |
+     * 3 --3--  2      4
+     */
+    private final CompactGraph graph = new CompactGraph(
+            new long[]{10L, 20L, 30L, 40L, 50L},
+            new int[]{0, 1, 0, 3},
+            new int[]{1, 2, 3, 2},
+            new int[]{10, 10, 2, 3}
+    );
+
+    @DisplayName("역 id 를 정점 인덱스로 변환")
+    @Test
+    void indexOf() {
+        assertThat(graph.vertexCount()).isEqualTo(5);
+        assertThat(graph.edgeCount()).isEqualTo(4);
+        assertThat(graph.indexOf(30L)).isEqualTo(2);
+        assertThat(graph.stationIdOf(2)).isEqualTo(30L);
+        assertThat(graph.indexOf(35L)).isNegative();
+    }
+
+    @DisplayName("두 정점 사이의 최단 경로 탐색")
+    @Test
+    void search() {
+        Dijkstra dijkstra = new Dijkstra(graph);
+
+        dijkstra.search(0, 2);
+
+        assertThat(dijkstra.distanceTo(2)).isEqualTo(5);
+        assertThat(dijkstra.pathTo(2)).containsExactly(0, 3, 2);
+    }
+
+    @DisplayName("연결되지 않은 정점은 도달할 수 없다")
+    @Test
+    void searchUnreachable() {
+        Dijkstra dijkstra = new Dijkstra(graph);
+
+        dijkstra.search(0);
+
+        assertThat(dijkstra.distanceTo(1)).isEqualTo(10);
+        assertThat(dijkstra.distanceTo(4)).isEqualTo(Dijkstra.UNREACHABLE);
+        assertThat(dijkstra.pathTo(4)).isEmpty();
+    }
+
+    @DisplayName("같은 인스턴스로 다시 탐색하면 이전 탐색의 결과가 남지 않는다")
+    @Test
+    void searchAgain() {
+        Dijkstra dijkstra = new Dijkstra(graph);
+        dijkstra.search(0);
+
+        dijkstra.search(4);
+
+        assertThat(dijkstra.distanceTo(4)).isZero();
+        assertThat(dijkstra.distanceTo(2)).isEqualTo(Dijkstra.UNREACHABLE);
+        assertThat(dijkstra.previousOf(2)).isEqualTo(Dijkstra.NONE);
+        assertThat(dijkstra.pathTo(1)).isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package nextstep.subway.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.ui.JsonResponseCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonResponseCacheTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JsonResponseCache jsonResponseCache = new JsonResponseCache(new ObjectMapper(), meterRegistry, "maximumSize=10,recordStats");
+
+    @DisplayName("같은 버전은 한 번만 직렬화하고, 버전이 바뀌면 다시 직렬화한다")
+    @Test
+    void respond() {
+        AtomicInteger calls = new AtomicInteger();
+
+        ResponseEntity<byte[]> first = jsonResponseCache.respond("line", "line-1", "1.1", () -> body(calls));
+        ResponseEntity<byte[]> second = jsonResponseCache.respond("line", "line-1", "1.1", () -> body(calls));
+        ResponseEntity<byte[]> modified = jsonResponseCache.respond("line", "line-1", "2.1", () -> body(calls));
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(modified.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", JsonResponseCache.CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", JsonResponseCache.CACHE_NAME).tag("result", "miss").functionCounter().count()).isEqualTo(2);
+    }
+
+    private Object body(AtomicInteger calls) {
+        return Collections.singletonMap("calls", calls.incrementAndGet());
+    }
+}
@@ -1,13 +1,24 @@
 package nextstep.subway.unit;
 
 import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.domain.Line;
 import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
 import nextstep.subway.domain.StationRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 @Transactional
 public class LineServiceTest {
@@ -15,6 +26,8 @@ public class LineServiceTest {
     private StationRepository stationRepository;
     @Autowired
     private LineRepository lineRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Autowired
     private LineService lineService;
@@ -30,4 +43,38 @@ public class LineServiceTest {
         // then
         // line.getSections 메서드를 통해 검증
     }
+
+    @DisplayName("노선 목록 조회는 노선과 역 수에 관계없이 역, 노선, 구간을 한 번씩 세 번의 쿼리로 처리한다")
+    @Test
+    void showLinesWithoutNPlusOne() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            Station upStation = stationRepository.save(new Station("상행역" + i));
+            Station middleStation = stationRepository.save(new Station("중간역" + i));
+            Station downStation = stationRepository.save(new Station("하행역" + i));
+            Line line = lineRepository.save(new Line(i + "호선", "color"));
+            line.addSection(upStation, middleStation, 10);
+            line.addSection(middleStation, downStation, 10);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            // when
+            List<LineResponse> responses = lineService.showLines();
+
+            // then
+            assertThat(responses).hasSize(3);
+            assertThat(responses.get(0).getStations()).extracting("name").containsExactly("상행역0", "중간역0", "하행역0");
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+    }
 }
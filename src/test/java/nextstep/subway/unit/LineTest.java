@@ -1,21 +1,157 @@
 package nextstep.subway.unit;
 
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.Station;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
 class LineTest {
+    private Station 강남역;
+    private Station 양재역;
+    private Station 정자역;
+    private Line 신분당선;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        정자역 = new Station("정자역");
+        신분당선 = new Line("신분당선", "red");
+        신분당선.addSection(강남역, 양재역, 10);
+    }
+
     @DisplayName("구간 목록 마지막에 새로운 구간을 추가할 경우")
     @Test
     void addSection() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 양재역, 정자역);
+    }
+
+    @DisplayName("구간 목록 처음에 새로운 구간을 추가할 경우")
+    @Test
+    void addSectionAtHead() {
+        Station 신사역 = new Station("신사역");
+
+        신분당선.addSection(신사역, 강남역, 5);
+
+        assertThat(신분당선.getStations()).containsExactly(신사역, 강남역, 양재역);
+    }
+
+    @DisplayName("기존 구간 사이에 새로운 구간을 추가할 경우")
+    @Test
+    void addSectionBetween() {
+        Station 양재시민의숲역 = new Station("양재시민의숲역");
+        신분당선.addSection(양재역, 정자역, 5);
+
+        신분당선.addSection(양재역, 양재시민의숲역, 3);
+        신분당선.addSection(new Station("신논현역"), 강남역, 2);
+
+        assertThat(신분당선.getStations()).extracting("name")
+                .containsExactly("신논현역", "강남역", "양재역", "양재시민의숲역", "정자역");
+        assertThat(신분당선.getSections()).extracting("distance").containsExactlyInAnyOrder(2, 10, 3, 2);
+    }
+
+    @DisplayName("기존 구간 사이에 추가하면 거리와 소요 시간을 나눠 갖는다")
+    @Test
+    void addSectionBetweenWithDuration() {
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(강남역, 정자역, 10, 8);
+
+        이호선.addSection(강남역, 양재역, 4, 3);
+
+        assertThat(이호선.getStations()).containsExactly(강남역, 양재역, 정자역);
+        assertThat(이호선.getSections()).extracting("distance", "duration")
+                .containsExactlyInAnyOrder(tuple(6, 5), tuple(4, 3));
+    }
+
+    @DisplayName("소요 시간이 없는 기존 구간 사이에도 소요 시간이 있는 구간을 추가할 수 있다")
+    @Test
+    void addSectionBetweenWithoutDuration() {
+        신분당선.addSection(강남역, 정자역, 4, 3);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 정자역, 양재역);
+        assertThat(신분당선.getSections()).extracting("distance", "duration")
+                .containsExactlyInAnyOrder(tuple(6, 0), tuple(4, 3));
+    }
+
+    @DisplayName("기존 구간보다 길거나 같은 구간을 사이에 추가할 경우")
+    @Test
+    void addSectionBetweenWithLongerDistance() {
+        assertThatThrownBy(() -> 신분당선.addSection(강남역, 정자역, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("소요 시간이 있는 기존 구간보다 소요 시간이 길거나 같은 구간을 사이에 추가할 경우")
+    @Test
+    void addSectionBetweenWithLongerDuration() {
+        Line 이호선 = new Line("2호선", "green");
+        이호선.addSection(강남역, 정자역, 10, 8);
+
+        assertThatThrownBy(() -> 이호선.addSection(강남역, 양재역, 4, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> 이호선.addSection(강남역, 양재역, 4, 9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("상행역과 하행역이 모두 노선에 있거나 모두 없는 구간을 추가할 경우")
+    @Test
+    void addSectionWithInvalidStations() {
+        assertThatThrownBy(() -> 신분당선.addSection(강남역, 양재역, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> 신분당선.addSection(정자역, new Station("미금역"), 5))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     @DisplayName("노선에 속해있는 역 목록 조회")
     @Test
     void getStations() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 양재역, 정자역);
+        assertThat(new Line("2호선", "green").getStations()).isEmpty();
     }
 
     @DisplayName("구간이 목록에서 마지막 역 삭제")
     @Test
     void removeSection() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        신분당선.removeStation(정자역);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 양재역);
+    }
+
+    @DisplayName("구간 목록에서 첫 역 삭제")
+    @Test
+    void removeFirstStation() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        신분당선.removeStation(강남역);
+
+        assertThat(신분당선.getStations()).containsExactly(양재역, 정자역);
+    }
+
+    @DisplayName("구간 목록에서 가운데 역 삭제")
+    @Test
+    void removeMiddleStation() {
+        신분당선.addSection(양재역, 정자역, 5);
+
+        신분당선.removeStation(양재역);
+
+        assertThat(신분당선.getStations()).containsExactly(강남역, 정자역);
+        assertThat(신분당선.getSections()).extracting("distance").containsExactly(15);
+    }
+
+    @DisplayName("구간이 하나뿐인 노선에서 역 삭제")
+    @Test
+    void removeStationFromSingleSection() {
+        assertThatThrownBy(() -> 신분당선.removeStation(양재역))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 }
@@ -0,0 +1,119 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkStation;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class NetworkProjectionTest {
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Station 강남역;
+    private Station 양재역;
+    private Station 정자역;
+    private Line 신분당선;
+    private Statistics statistics;
+    private boolean statisticsEnabled;
+
+    /**
+     * 강남역 --- *신분당선* (10km, 3분) --- 양재역        정자역(구간 없음)
+     */
+    @BeforeEach
+    void setUp() {
+        강남역 = stationRepository.save(new Station("강남역"));
+        양재역 = stationRepository.save(new Station("양재역"));
+        정자역 = stationRepository.save(new Station("정자역"));
+        신분당선 = lineRepository.save(new Line("신분당선", "red"));
+        신분당선.addSection(강남역, 양재역, 10, 3);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @DisplayName("역 조회 결과를 엔티티 없이 역 정보로 옮겨 담는다")
+    @Test
+    void findAllNetworkStations() {
+        List<NetworkStation> stations = stationRepository.findAllNetworkStations();
+
+        assertThat(stations).extracting("id").containsExactly(강남역.getId(), 양재역.getId(), 정자역.getId());
+        assertThat(stations).extracting("name").containsExactly("강남역", "양재역", "정자역");
+        assertThat(stations).allSatisfy(station -> {
+            assertThat(station.getCreatedDate()).isNotNull();
+            assertThat(station.getModifiedDate()).isNotNull();
+        });
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("구간에 등록된 역만 조회한다")
+    @Test
+    void findNetworkStationsOnLines() {
+        List<NetworkStation> stations = stationRepository.findNetworkStationsOnLines();
+
+        assertThat(stations).extracting("name").containsExactly("강남역", "양재역");
+    }
+
+    @DisplayName("노선과 구간 조회 결과를 엔티티 없이 노선, 구간 정보로 옮겨 담는다")
+    @Test
+    void findAllNetworkLinesAndSections() {
+        List<NetworkLine> lines = lineRepository.findAllNetworkLines();
+        List<NetworkSection> sections = lineRepository.findAllNetworkSections();
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).getId()).isEqualTo(신분당선.getId());
+        assertThat(lines.get(0).getName()).isEqualTo("신분당선");
+        assertThat(lines.get(0).getColor()).isEqualTo("red");
+        assertThat(lines.get(0).getCreatedDate()).isNotNull();
+        assertThat(sections).hasSize(1);
+        NetworkSection section = sections.get(0);
+        assertThat(section.getLineId()).isEqualTo(신분당선.getId());
+        assertThat(section.getUpStationId()).isEqualTo(강남역.getId());
+        assertThat(section.getDownStationId()).isEqualTo(양재역.getId());
+        assertThat(section.getDistance()).isEqualTo(10);
+        assertThat(section.getDuration()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("노선 하나의 정보와 구간만 조회한다")
+    @Test
+    void findNetworkLineById() {
+        assertThat(lineRepository.findNetworkLineById(신분당선.getId())).map(NetworkLine::getName).hasValue("신분당선");
+        assertThat(lineRepository.findNetworkLineById(0L)).isEmpty();
+        assertThat(lineRepository.findNetworkSectionsByLineId(신분당선.getId())).extracting("distance").containsExactly(10);
+        assertThat(lineRepository.findNetworkSectionsByLineIdIn(Collections.singletonList(신분당선.getId()))).hasSize(1);
+        assertThat(stationRepository.findNetworkStationById(정자역.getId())).map(NetworkStation::getName).hasValue("정자역");
+    }
+}
@@ -0,0 +1,85 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.applicaion.NetworkService;
+import nextstep.subway.domain.Line;
+import nextstep.subway.domain.LineRepository;
+import nextstep.subway.domain.Station;
+import nextstep.subway.domain.StationRepository;
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkStation;
+import nextstep.subway.utils.DatabaseCleanup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class NetworkServiceTest {
+    @Autowired
+    private NetworkService networkService;
+    @Autowired
+    private StationRepository stationRepository;
+    @Autowired
+    private LineRepository lineRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DatabaseCleanup databaseCleanup;
+
+    private Long 강남역;
+    private Long 이호선;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+        강남역 = stationRepository.save(new Station("강남역")).getId();
+        이호선 = lineRepository.save(new Line("2호선", "green")).getId();
+        networkService.maintain();
+    }
+
+    @DisplayName("노선도가 DB 와 같으면 다시 읽지 않는다")
+    @Test
+    void keepConsistentNetwork() {
+        // given
+        Network network = networkService.getNetwork();
+
+        // when
+        networkService.maintain();
+
+        // then
+        assertThat(networkService.getNetwork()).isSameAs(network);
+    }
+
+    @DisplayName("변경분 없이 바뀐 역 이름을 찾아 노선도를 다시 읽는다")
+    @Test
+    void reloadRenamedStation() {
+        // given
+        jdbcTemplate.update("update station set name = ? where id = ?", "강남역(폐쇄)", 강남역);
+
+        // when
+        networkService.maintain();
+
+        // then
+        assertThat(networkService.getNetwork().findStation(강남역)).map(NetworkStation::getName).hasValue("강남역(폐쇄)");
+    }
+
+    @DisplayName("변경분 없이 바뀐 노선 색을 찾아 노선도를 다시 읽는다")
+    @Test
+    void reloadRecoloredLine() {
+        // given
+        jdbcTemplate.update("update line set color = ? where id = ?", "bg-green-600", 이호선);
+
+        // when
+        networkService.maintain();
+
+        // then
+        assertThat(networkService.getNetwork().findLine(이호선)).map(NetworkLine::getColor).hasValue("bg-green-600");
+    }
+}
@@ -0,0 +1,78 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkSnapshot;
+import nextstep.subway.domain.network.NetworkStation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class NetworkSnapshotTest {
+    private static final long FINGERPRINT = 42L;
+
+    @TempDir
+    Path directory;
+
+    private final LocalDateTime now = LocalDateTime.of(2021, 12, 1, 10, 30, 15, 123_000_000);
+    private final Network network = new Network(
+            Arrays.asList(new NetworkStation(2L, "양재역", now, now), new NetworkStation(1L, "강남역", now, null)),
+            Collections.singletonList(new NetworkLine(1L, "신분당선", "bg-red-600", now, now)),
+            Collections.singletonList(new NetworkSection(1L, 1L, 2L, 10))
+    );
+
+    @DisplayName("저장한 스냅샷을 다시 읽어 들인다")
+    @Test
+    void writeAndRead() throws IOException {
+        Path file = directory.resolve("network.snapshot");
+        NetworkSnapshot.write(file, network, FINGERPRINT);
+
+        Network loaded = NetworkSnapshot.read(file, FINGERPRINT).get();
+
+        assertThat(loaded.getStations()).extracting("id", "name", "modifiedDate")
+                .containsExactly(
+                        tuple(1L, "강남역", null),
+                        tuple(2L, "양재역", now));
+        assertThat(loaded.getLines()).extracting("name", "color").containsExactly(
+                tuple("신분당선", "bg-red-600"));
+        assertThat(loaded.getSections()).extracting("upStationId", "downStationId", "distance").containsExactly(
+                tuple(1L, 2L, 10));
+    }
+
+    @DisplayName("DB 와 fingerprint 가 다르면 스냅샷을 사용하지 않는다")
+    @Test
+    void readWithDifferentFingerprint() throws IOException {
+        Path file = directory.resolve("network.snapshot");
+        NetworkSnapshot.write(file, network, FINGERPRINT);
+
+        Optional<Network> loaded = NetworkSnapshot.read(file, FINGERPRINT + 1);
+
+        assertThat(loaded).isEmpty();
+    }
+
+    @DisplayName("손상된 스냅샷은 사용하지 않는다")
+    @Test
+    void readCorrupted() throws IOException {
+        Path file = directory.resolve("network.snapshot");
+        NetworkSnapshot.write(file, network, FINGERPRINT);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x7F;
+        Files.write(file, bytes);
+
+        Optional<Network> loaded = NetworkSnapshot.read(file, FINGERPRINT);
+
+        assertThat(loaded).isEmpty();
+    }
+}
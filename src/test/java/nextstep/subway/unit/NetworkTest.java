@@ -0,0 +1,87 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkLine;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkStation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NetworkTest {
+    private final NetworkStation 교대역 = new NetworkStation(1L, "교대역", null, null);
+    private final NetworkStation 강남역 = new NetworkStation(2L, "강남역", null, null);
+    private final NetworkStation 역삼역 = new NetworkStation(3L, "역삼역", null, null);
+    private final NetworkLine 이호선 = new NetworkLine(1L, "2호선", "green", null, null);
+    private final NetworkLine 신분당선 = new NetworkLine(2L, "신분당선", "red", null, null);
+
+    @DisplayName("구간이 등록된 순서와 관계없이 노선의 역을 상행부터 조회한다")
+    @Test
+    void getStations() {
+        Network network = new Network(
+                Arrays.asList(교대역, 강남역, 역삼역),
+                Arrays.asList(이호선, 신분당선),
+                Arrays.asList(
+                        new NetworkSection(1L, 강남역.getId(), 역삼역.getId(), 6),
+                        new NetworkSection(1L, 교대역.getId(), 강남역.getId(), 4)
+                )
+        );
+
+        assertThat(network.getStations(이호선)).containsExactly(교대역, 강남역, 역삼역);
+        assertThat(network.getStations(신분당선)).isEmpty();
+    }
+
+    @DisplayName("id 로 역과 노선을 조회한다")
+    @Test
+    void find() {
+        Network network = new Network(Arrays.asList(교대역, 강남역), Collections.singletonList(이호선), Collections.emptyList());
+
+        assertThat(network.findStation(강남역.getId())).contains(강남역);
+        assertThat(network.findLine(이호선.getId())).contains(이호선);
+        assertThat(network.findLine(99L)).isEmpty();
+    }
+
+    @DisplayName("노선 하나의 구간만 바꾼 새 노선도를 만든다")
+    @Test
+    void replaceLine() {
+        Network network = new Network(
+                Arrays.asList(교대역, 강남역, 역삼역),
+                Arrays.asList(이호선, 신분당선),
+                Arrays.asList(
+                        new NetworkSection(1L, 교대역.getId(), 강남역.getId(), 4),
+                        new NetworkSection(2L, 강남역.getId(), 역삼역.getId(), 6)
+                )
+        );
+
+        Network changed = network.replaceLine(1L, 이호선, Arrays.asList(
+                new NetworkSection(1L, 교대역.getId(), 강남역.getId(), 4),
+                new NetworkSection(1L, 강남역.getId(), 역삼역.getId(), 6)
+        ));
+        Network removed = changed.replaceLine(2L, null, Collections.emptyList());
+
+        assertThat(changed.getStations(이호선)).containsExactly(교대역, 강남역, 역삼역);
+        assertThat(changed.getStations(신분당선)).containsExactly(강남역, 역삼역);
+        assertThat(network.getStations(이호선)).containsExactly(교대역, 강남역);
+        assertThat(removed.getLines()).containsExactly(이호선);
+        assertThat(removed.getSections()).hasSize(2);
+        assertThat(removed.summarizeSections().hash()).isEqualTo(
+                new Network(removed.getStations(), removed.getLines(), removed.getSections()).summarizeSections().hash());
+    }
+
+    @DisplayName("역 하나만 바꾼 새 노선도를 만든다")
+    @Test
+    void replaceStation() {
+        Network network = new Network(Arrays.asList(교대역, 역삼역), Collections.singletonList(이호선), Collections.emptyList());
+
+        Network added = network.replaceStation(강남역.getId(), 강남역);
+        Network removed = added.replaceStation(교대역.getId(), null);
+
+        assertThat(added.getStations()).containsExactly(교대역, 강남역, 역삼역);
+        assertThat(removed.getStations()).containsExactly(강남역, 역삼역);
+        assertThat(removed.findStation(교대역.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,195 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.domain.network.Network;
+import nextstep.subway.domain.network.NetworkSection;
+import nextstep.subway.domain.network.NetworkStation;
+import nextstep.subway.domain.path.DistanceMatrix;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.PathType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PathFinderTest {
+    private NetworkStation 교대역;
+    private NetworkStation 강남역;
+    private NetworkStation 양재역;
+    private NetworkStation 남부터미널역;
+    private NetworkStation 정자역;
+    private Network network;
+
+    /**
+     * 교대역    --- *2호선* (10km, 2분) ---   강남역
+     * |                                      |
+     * *3호선* (2km, 10분)                     *신분당선* (10km, 3분)
+     * |                                      |
+     * 남부터미널역  --- *3호선* (3km, 10분) ---   양재
+     */
+    @BeforeEach
+    void setUp() {
+        교대역 = createStation(1L, "교대역");
+        강남역 = createStation(2L, "강남역");
+        양재역 = createStation(3L, "양재역");
+        남부터미널역 = createStation(4L, "남부터미널역");
+        정자역 = createStation(5L, "정자역");
+
+        network = new Network(
+                Arrays.asList(교대역, 강남역, 양재역, 남부터미널역, 정자역),
+                Collections.emptyList(),
+                Arrays.asList(
+                        new NetworkSection(1L, 교대역.getId(), 강남역.getId(), 10, 2),
+                        new NetworkSection(2L, 강남역.getId(), 양재역.getId(), 10, 3),
+                        new NetworkSection(3L, 교대역.getId(), 남부터미널역.getId(), 2, 10),
+                        new NetworkSection(3L, 남부터미널역.getId(), 양재역.getId(), 3, 10)
+                )
+        );
+    }
+
+    @DisplayName("두 역의 최단 거리 경로 조회")
+    @Test
+    void findPath() {
+        Path path = new PathFinder(network).findPath(교대역.getId(), 양재역.getId());
+
+        assertThat(path.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(path.getDistance()).isEqualTo(5);
+        assertThat(path.getDuration()).isEqualTo(20);
+        assertThat(path.getTransferCount()).isZero();
+    }
+
+    @DisplayName("두 역의 최소 시간 경로 조회")
+    @Test
+    void findDurationPath() {
+        Path path = new PathFinder(network, 0, 5).findPath(교대역.getId(), 양재역.getId(), PathType.DURATION);
+
+        assertThat(path.getStations()).containsExactly(교대역, 강남역, 양재역);
+        assertThat(path.getDistance()).isEqualTo(20);
+        assertThat(path.getDuration()).isEqualTo(10);
+        assertThat(path.getTransferCount()).isEqualTo(1);
+    }
+
+    @DisplayName("환승 시간이 길면 환승하지 않는 경로가 최소 시간 경로가 된다")
+    @Test
+    void findDurationPathWithTransferPenalty() {
+        Path path = new PathFinder(network, 0, 20).findPath(교대역.getId(), 양재역.getId(), PathType.DURATION);
+
+        assertThat(path.getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+        assertThat(path.getDuration()).isEqualTo(20);
+        assertThat(path.getTransferCount()).isZero();
+    }
+
+    @DisplayName("두 역의 최소 환승 경로 조회")
+    @Test
+    void findTransferPath() {
+        Path path = new PathFinder(network, 0, 0).findPath(양재역.getId(), 교대역.getId(), PathType.TRANSFER);
+
+        assertThat(path.getStations()).containsExactly(양재역, 남부터미널역, 교대역);
+        assertThat(path.getTransferCount()).isZero();
+    }
+
+    @DisplayName("미리 계산한 거리 행렬로 최단 거리 경로 조회")
+    @Test
+    void findPathWithDistanceMatrix() {
+        PathFinder allPairsPathFinder = new PathFinder(network, 100);
+
+        Path path = allPairsPathFinder.findPath(양재역.getId(), 교대역.getId());
+
+        assertThat(allPairsPathFinder.hasDistanceMatrix()).isTrue();
+        assertThat(path.getStations()).containsExactly(양재역, 남부터미널역, 교대역);
+        assertThat(path.getDistance()).isEqualTo(5);
+    }
+
+    @DisplayName("이전 거리 행렬의 버퍼를 물려받은 뒤에도 이전 탐색기는 행렬 없이 경로를 찾는다")
+    @Test
+    void findPathWithRetiredDistanceMatrix() {
+        PathFinder previous = new PathFinder(network, 100);
+        PathFinder rebuilt = new PathFinder(network, 0).withDistanceMatrix(previous.getDistanceMatrix(), ForkJoinPool.commonPool());
+
+        assertThat(previous.getDistanceMatrix().tryAcquire()).isFalse();
+        assertThat(rebuilt.findPath(양재역.getId(), 교대역.getId()).getDistance()).isEqualTo(5);
+        assertThat(previous.findPath(양재역.getId(), 교대역.getId()).getStations()).containsExactly(양재역, 남부터미널역, 교대역);
+    }
+
+    @DisplayName("이전 거리 행렬을 읽는 쪽이 돌려주지 않으면 버퍼를 물려받지 않고 새로 만든다")
+    @Test
+    void rebuildDistanceMatrixWhileReading() {
+        PathFinder previous = new PathFinder(network, 100);
+        DistanceMatrix reading = previous.getDistanceMatrix();
+        assertThat(reading.tryAcquire()).isTrue();
+        int distance = reading.distance(0, 1);
+
+        try {
+            PathFinder rebuilt = new PathFinder(network, 0).withDistanceMatrix(reading, ForkJoinPool.commonPool());
+
+            assertThat(rebuilt.getDistanceMatrix()).isNotSameAs(reading);
+            assertThat(reading.distance(0, 1)).isEqualTo(distance);
+            assertThat(rebuilt.findPath(양재역.getId(), 교대역.getId()).getDistance()).isEqualTo(5);
+        } finally {
+            reading.release();
+        }
+    }
+
+    @DisplayName("거리 행렬에 새로 할당할 direct buffer 크기는 물려받을 수 있는 이전 버퍼를 빼고 센다")
+    @Test
+    void distanceMatrixBytes() {
+        PathFinder pathFinder = new PathFinder(network);
+        DistanceMatrix previous = new PathFinder(network, 100).getDistanceMatrix();
+
+        assertThat(pathFinder.distanceMatrixBytes(null)).isEqualTo(DistanceMatrix.bytesFor(4));
+        assertThat(pathFinder.distanceMatrixBytes(previous)).isEqualTo(DistanceMatrix.bytesFor(4));
+    }
+
+    @DisplayName("contraction hierarchy 로 최단 거리 경로 조회")
+    @Test
+    void findPathWithContractionHierarchy() {
+        PathFinder pathFinder = new PathFinder(network).withContractionHierarchy();
+
+        Path path = pathFinder.findPath(양재역.getId(), 교대역.getId());
+
+        assertThat(pathFinder.hasContractionHierarchy()).isTrue();
+        assertThat(path.getStations()).containsExactly(양재역, 남부터미널역, 교대역);
+        assertThat(path.getDistance()).isEqualTo(5);
+    }
+
+    @DisplayName("여러 출발역과 여러 도착역 사이의 거리 행렬 조회")
+    @Test
+    void findDistances() {
+        List<Long> sources = Arrays.asList(교대역.getId(), 강남역.getId());
+        List<Long> targets = Arrays.asList(양재역.getId(), 남부터미널역.getId(), 교대역.getId());
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        int[][] distances = new PathFinder(network).findDistances(sources, targets, pool);
+        int[][] transposed = new PathFinder(network).findDistances(targets, sources, pool);
+        int[][] allPairs = new PathFinder(network, 100).findDistances(sources, targets, pool);
+
+        assertThat(distances).isDeepEqualTo(new int[][]{{5, 2, 0}, {10, 12, 10}});
+        assertThat(transposed).isDeepEqualTo(new int[][]{{5, 10}, {2, 12}, {0, 10}});
+        assertThat(allPairs).isDeepEqualTo(distances);
+    }
+
+    @DisplayName("출발역과 도착역이 같으면 조회할 수 없다")
+    @Test
+    void findPathWithSameStations() {
+        assertThatThrownBy(() -> new PathFinder(network).findPath(교대역.getId(), 교대역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("구간에 등록되지 않은 역은 조회할 수 없다")
+    @Test
+    void findPathWithUnknownStation() {
+        assertThatThrownBy(() -> new PathFinder(network).findPath(교대역.getId(), 정자역.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private NetworkStation createStation(Long id, String name) {
+        return new NetworkStation(id, name, null, null);
+    }
+}
@@ -0,0 +1,50 @@
+package nextstep.subway.unit;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import nextstep.subway.support.SamplingAccessFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SamplingAccessFilterTest {
+    @DisplayName("표본 비율이 0 이면 정상 응답은 남기지 않는다")
+    @Test
+    void denyWhenRateIsZero() {
+        SamplingAccessFilter filter = createFilter(0);
+
+        assertThat(filter.decide(createEvent(200))).isEqualTo(FilterReply.DENY);
+    }
+
+    @DisplayName("표본 비율이 1 이면 모든 요청을 남긴다")
+    @Test
+    void acceptWhenRateIsOne() {
+        SamplingAccessFilter filter = createFilter(1);
+
+        assertThat(filter.decide(createEvent(200))).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @DisplayName("서버 오류 응답은 표본 비율과 관계없이 남긴다")
+    @Test
+    void acceptServerError() {
+        SamplingAccessFilter filter = createFilter(0);
+
+        assertThat(filter.decide(createEvent(500))).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private SamplingAccessFilter createFilter(double rate) {
+        SamplingAccessFilter filter = new SamplingAccessFilter();
+        filter.setRate(rate);
+        filter.start();
+        return filter;
+    }
+
+    private IAccessEvent createEvent(int statusCode) {
+        IAccessEvent event = mock(IAccessEvent.class);
+        when(event.getStatusCode()).thenReturn(statusCode);
+        return event;
+    }
+}
@@ -0,0 +1,57 @@
+package nextstep.subway.unit;
+
+import nextstep.subway.support.Span;
+import nextstep.subway.support.Trace;
+import nextstep.subway.support.Tracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracerTest {
+    @AfterEach
+    void tearDown() {
+        Tracer.finish();
+    }
+
+    @DisplayName("추적 중이 아니면 구간을 만들지 않는다")
+    @Test
+    void startSpanWithoutTrace() {
+        assertThat(Tracer.startSpan(Span.SERVICE, "LineService.showLines")).isNull();
+    }
+
+    @DisplayName("하위 구간은 바로 바깥 구간을 부모로 가진다")
+    @Test
+    void parentSpan() {
+        Trace trace = Tracer.start(null, null, "GET /lines");
+        Span service = Tracer.startSpan(Span.SERVICE, "LineService.showLines");
+        Span repository = Tracer.startSpan(Span.REPOSITORY, "LineRepository.findAll");
+        Tracer.end(repository);
+        Tracer.end(service);
+        Tracer.finish();
+
+        assertThat(trace.getSpans()).containsExactly(trace.getRoot(), service, repository);
+        assertThat(service.getParentSpanId()).isEqualTo(trace.getRoot().getSpanId());
+        assertThat(repository.getParentSpanId()).isEqualTo(service.getSpanId());
+    }
+
+    @DisplayName("단계별 시간을 모두 더하면 요청 전체 시간과 같다")
+    @Test
+    void selfNanosByKind() {
+        Trace trace = Tracer.start(null, null, "GET /lines");
+        Span service = Tracer.startSpan(Span.SERVICE, "LineService.showLines");
+        Tracer.end(Tracer.startSpan(Span.REPOSITORY, "LineRepository.findAll"));
+        Tracer.end(service);
+        Tracer.end(Tracer.startSpan(Span.SERIALIZATION, "JsonResponseCache.serialize"));
+        Tracer.finish();
+
+        Map<String, Long> breakdown = trace.selfNanosByKind();
+
+        assertThat(breakdown).containsOnlyKeys(Span.HTTP, Span.SERVICE, Span.REPOSITORY, Span.SERIALIZATION);
+        assertThat(breakdown.values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(trace.getRoot().getDurationNanos());
+    }
+}
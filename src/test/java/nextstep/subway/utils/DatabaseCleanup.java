@@ -1,7 +1,10 @@
 package nextstep.subway.utils;
 
 import com.google.common.base.CaseFormat;
+import nextstep.subway.applicaion.event.NetworkImportedEvent;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,8 +21,16 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private CacheManager cacheManager;
+    private ApplicationEventPublisher eventPublisher;
+
     private List<String> tableNames;
 
+    public DatabaseCleanup(CacheManager cacheManager, ApplicationEventPublisher eventPublisher) {
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public void afterPropertiesSet() {
         tableNames = entityManager.getMetamodel().getEntities().stream()
@@ -35,9 +46,12 @@ public class DatabaseCleanup implements InitializingBean {
 
         for (String tableName : tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
-            entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH 1").executeUpdate();
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        // 메모리 노선도, 경로 탐색기와 목록 응답 캐시 버전도 비운 DB 기준으로 커밋 뒤에 다시 맞춘다
+        eventPublisher.publishEvent(new NetworkImportedEvent(0, 0, 0));
     }
 }
\ No newline at end of file